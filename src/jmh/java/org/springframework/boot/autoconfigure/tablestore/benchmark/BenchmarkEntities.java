@@ -0,0 +1,325 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.RecordColumn;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.StreamRecord;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 基准测试使用的窄表、宽表与动态列实体，以及由实体构造的模拟行
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class BenchmarkEntities {
+
+    /**
+     * 按名称创建实体
+     *
+     * @param shape narrow、wide或dynamic
+     * @return 实体
+     */
+    public static Object entity(String shape) {
+        switch (shape) {
+            case "narrow":
+                return new NarrowEntity();
+            case "wide":
+                return new WideEntity();
+            case "dynamic":
+                DynamicEntity entity = new DynamicEntity();
+                for (int i = 0; i < 20; i++) {
+                    if (i % 2 == 0) {
+                        entity.addDynamicColumn("attr" + i, "value-" + i);
+                    } else {
+                        entity.addDynamicColumn("attr" + i, (long) i);
+                    }
+                }
+                return entity;
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+    }
+
+    /**
+     * 由实体构造查询结果行
+     */
+    public static Row row(Object entity) {
+        RowPutChange change = OtsUtils.rowPutChange(entity);
+        return new Row(change.getPrimaryKey(), change.getColumnsToPut());
+    }
+
+    /**
+     * 由实体构造通道增量记录
+     */
+    public static StreamRecord streamRecord(Object entity) {
+        RowPutChange change = OtsUtils.rowPutChange(entity);
+        List<RecordColumn> columns = new ArrayList<>();
+        for (Column column : change.getColumnsToPut()) {
+            columns.add(new RecordColumn(column, RecordColumn.ColumnType.PUT));
+        }
+        StreamRecord record = new StreamRecord();
+        record.setRecordType(StreamRecord.RecordType.PUT);
+        record.setPrimaryKey(change.getPrimaryKey());
+        record.setColumns(columns);
+        return record;
+    }
+
+    @Table(name = "narrow")
+    public static class NarrowEntity {
+
+        @OtsColumn(primaryKey = true)
+        public String userId = "user-0001";
+
+        @OtsColumn(primaryKey = true, type = OtsColumnType.INTEGER)
+        public long orderId = 10086L;
+
+        public String status = "PAID";
+
+        public long createTime = 1760659200000L;
+
+        public double amount = 199.9;
+
+        public boolean deleted = false;
+
+        public List<String> tags = Arrays.asList("a", "b", "c");
+
+        public Map<String, Integer> counters = new TreeMap<>();
+
+        {
+            counters.put("views", 3);
+            counters.put("clicks", 1);
+        }
+    }
+
+    /**
+     * 100个属性列
+     */
+    @Table(name = "wide")
+    public static class WideEntity {
+
+        @OtsColumn(primaryKey = true)
+        public String id = "wide-0001";
+
+        public long l0 = 0L;
+
+        public long l1 = 1L;
+
+        public long l2 = 2L;
+
+        public long l3 = 3L;
+
+        public long l4 = 4L;
+
+        public long l5 = 5L;
+
+        public long l6 = 6L;
+
+        public long l7 = 7L;
+
+        public long l8 = 8L;
+
+        public long l9 = 9L;
+
+        public long l10 = 10L;
+
+        public long l11 = 11L;
+
+        public long l12 = 12L;
+
+        public long l13 = 13L;
+
+        public long l14 = 14L;
+
+        public long l15 = 15L;
+
+        public long l16 = 16L;
+
+        public long l17 = 17L;
+
+        public long l18 = 18L;
+
+        public long l19 = 19L;
+
+        public long l20 = 20L;
+
+        public long l21 = 21L;
+
+        public long l22 = 22L;
+
+        public long l23 = 23L;
+
+        public long l24 = 24L;
+
+        public double d0 = 0.5;
+
+        public double d1 = 1.5;
+
+        public double d2 = 2.5;
+
+        public double d3 = 3.5;
+
+        public double d4 = 4.5;
+
+        public double d5 = 5.5;
+
+        public double d6 = 6.5;
+
+        public double d7 = 7.5;
+
+        public double d8 = 8.5;
+
+        public double d9 = 9.5;
+
+        public double d10 = 10.5;
+
+        public double d11 = 11.5;
+
+        public double d12 = 12.5;
+
+        public double d13 = 13.5;
+
+        public double d14 = 14.5;
+
+        public double d15 = 15.5;
+
+        public double d16 = 16.5;
+
+        public double d17 = 17.5;
+
+        public double d18 = 18.5;
+
+        public double d19 = 19.5;
+
+        public double d20 = 20.5;
+
+        public double d21 = 21.5;
+
+        public double d22 = 22.5;
+
+        public double d23 = 23.5;
+
+        public double d24 = 24.5;
+
+        public String s0 = "string-value-0";
+
+        public String s1 = "string-value-1";
+
+        public String s2 = "string-value-2";
+
+        public String s3 = "string-value-3";
+
+        public String s4 = "string-value-4";
+
+        public String s5 = "string-value-5";
+
+        public String s6 = "string-value-6";
+
+        public String s7 = "string-value-7";
+
+        public String s8 = "string-value-8";
+
+        public String s9 = "string-value-9";
+
+        public String s10 = "string-value-10";
+
+        public String s11 = "string-value-11";
+
+        public String s12 = "string-value-12";
+
+        public String s13 = "string-value-13";
+
+        public String s14 = "string-value-14";
+
+        public String s15 = "string-value-15";
+
+        public String s16 = "string-value-16";
+
+        public String s17 = "string-value-17";
+
+        public String s18 = "string-value-18";
+
+        public String s19 = "string-value-19";
+
+        public String s20 = "string-value-20";
+
+        public String s21 = "string-value-21";
+
+        public String s22 = "string-value-22";
+
+        public String s23 = "string-value-23";
+
+        public String s24 = "string-value-24";
+
+        public boolean b0 = false;
+
+        public boolean b1 = true;
+
+        public boolean b2 = false;
+
+        public boolean b3 = true;
+
+        public boolean b4 = false;
+
+        public boolean b5 = true;
+
+        public boolean b6 = false;
+
+        public boolean b7 = true;
+
+        public boolean b8 = false;
+
+        public boolean b9 = true;
+
+        public boolean b10 = false;
+
+        public boolean b11 = true;
+
+        public boolean b12 = false;
+
+        public boolean b13 = true;
+
+        public boolean b14 = false;
+
+        public boolean b15 = true;
+
+        public boolean b16 = false;
+
+        public boolean b17 = true;
+
+        public boolean b18 = false;
+
+        public boolean b19 = true;
+
+        public List<String> t0 = Arrays.asList("a0", "b0", "c0");
+
+        public List<String> t1 = Arrays.asList("a1", "b1", "c1");
+
+        public List<String> t2 = Arrays.asList("a2", "b2", "c2");
+
+        public List<String> t3 = Arrays.asList("a3", "b3", "c3");
+
+        public List<String> t4 = Arrays.asList("a4", "b4", "c4");
+    }
+
+    @Table(name = "dynamic")
+    public static class DynamicEntity extends DynamicColumn {
+
+        @OtsColumn(primaryKey = true)
+        public String id = "dynamic-0001";
+
+        public long version = 1L;
+    }
+}
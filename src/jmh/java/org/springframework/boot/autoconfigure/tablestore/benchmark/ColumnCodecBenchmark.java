@@ -0,0 +1,119 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.ColumnCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.ColumnCodecs;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单列编解码耗时，对比按值类型逐一判断的ColumnUtils与构建映射时确定的ColumnCodec
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColumnCodecBenchmark {
+
+    @Param({"count", "amount", "name", "tags", "pojo"})
+    private String column;
+
+    private OtsColumn otsColumn;
+
+    private Class<?> clazz;
+
+    private Type type;
+
+    private ColumnCodec codec;
+
+    private Object value;
+
+    private ColumnValue columnValue;
+
+    @Setup
+    public void setup() throws Exception {
+        Field field = Fields.class.getDeclaredField(column);
+        otsColumn = field.getAnnotation(OtsColumn.class);
+        clazz = field.getType();
+        type = field.getGenericType();
+        codec = ColumnCodecs.of(otsColumn, clazz, type);
+        value = field.get(new Fields());
+        columnValue = codec.encode(value);
+    }
+
+    @Benchmark
+    public ColumnValue encodeColumnUtils() {
+        return ColumnUtils.getColumnValue(value, otsColumn);
+    }
+
+    @Benchmark
+    public ColumnValue encodeCodec() {
+        return codec.encode(value);
+    }
+
+    @Benchmark
+    public Object decodeColumnUtils() {
+        return ColumnUtils.getValue(columnValue, otsColumn, clazz, type);
+    }
+
+    @Benchmark
+    public Object decodeCodec() {
+        return codec.decode(columnValue);
+    }
+
+    public static class Fields {
+
+        @OtsColumn(type = OtsColumnType.INTEGER)
+        public int count = 42;
+
+        @OtsColumn(type = OtsColumnType.STRING)
+        public Double amount = 12.5;
+
+        public String name = "tablestore";
+
+        public List<String> tags = Arrays.asList("a", "b", "c");
+
+        public Pojo pojo = new Pojo();
+    }
+
+    public static class Pojo {
+
+        private long id = 1L;
+
+        private String value = "value";
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.tablestore.enums.SerializerType;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.ColumnCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.SerializerCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializers;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象、List字段在不同序列化方式下的编解码耗时
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColumnSerializerBenchmark {
+
+    @Param({"FASTJSON", "JACKSON", "SMILE"})
+    private SerializerType serializer;
+
+    @Param({"order", "items"})
+    private String column;
+
+    private ColumnCodec codec;
+
+    private Object value;
+
+    private ColumnValue columnValue;
+
+    @Setup
+    public void setup() throws Exception {
+        Field field = Fields.class.getDeclaredField(column);
+        codec = new SerializerCodec(ColumnSerializers.of(serializer), field.getType(), field.getGenericType());
+        value = field.get(new Fields());
+        columnValue = codec.encode(value);
+    }
+
+    @Benchmark
+    public ColumnValue encode() {
+        return codec.encode(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(columnValue);
+    }
+
+    public static class Fields {
+
+        public Order order = new Order();
+
+        public List<Item> items = Order.items();
+    }
+
+    public static class Order {
+
+        private String orderId = "20261017000000000001";
+
+        private long userId = 10086L;
+
+        private double amount = 199.9;
+
+        private String status = "PAID";
+
+        private List<Item> items = items();
+
+        static List<Item> items() {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Item item = new Item();
+                item.setSku("SKU-" + i);
+                item.setQuantity(i + 1);
+                item.setPrice(9.9 * (i + 1));
+                items.add(item);
+            }
+            return items;
+        }
+
+        public String getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(String orderId) {
+            this.orderId = orderId;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(long userId) {
+            this.userId = userId;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Item {
+
+        private String sku;
+
+        private int quantity;
+
+        private double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+}
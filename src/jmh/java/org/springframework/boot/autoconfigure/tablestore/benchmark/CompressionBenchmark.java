@@ -0,0 +1,76 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.DeflateCompress;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.GzipCompress;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.NoCompress;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.SnappyCompress;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各压缩算法在不同数据大小下的压缩与解压
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompressionBenchmark {
+
+    @Param({"NoCompress", "GzipCompress", "DeflateCompress", "SnappyCompress"})
+    private String compress;
+
+    @Param({"256", "16384"})
+    private int size;
+
+    private CompressionCodec codec;
+
+    private byte[] raw;
+
+    private byte[] compressed;
+
+    @Setup
+    public void setup() {
+        switch (compress) {
+            case "GzipCompress":
+                codec = GzipCompress.INSTANCE;
+                break;
+            case "DeflateCompress":
+                codec = DeflateCompress.INSTANCE;
+                break;
+            case "SnappyCompress":
+                codec = SnappyCompress.INSTANCE;
+                break;
+            default:
+                codec = NoCompress.INSTANCE;
+        }
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; builder.length() < size; i++) {
+            builder.append("{\"sku\":\"SKU-").append(i % 37).append("\",\"quantity\":").append(i % 5).append('}');
+        }
+        raw = builder.substring(0, size).getBytes(StandardCharsets.UTF_8);
+        compressed = codec.compress(raw);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return codec.compress(raw);
+    }
+
+    @Benchmark
+    public byte[] uncompress() {
+        return codec.uncompress(compressed);
+    }
+}
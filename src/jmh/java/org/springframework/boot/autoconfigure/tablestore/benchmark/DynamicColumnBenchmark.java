@@ -0,0 +1,73 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.ColumnType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.tablestore.benchmark.BenchmarkEntities.DynamicEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 动态列写入与按类型读取
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DynamicColumnBenchmark {
+
+    private DynamicEntity entity;
+
+    @Setup
+    public void setup() {
+        entity = new DynamicEntity();
+        entity.addDynamicColumn("count", ColumnType.INTEGER, 42L);
+        entity.addDynamicColumn("amount", ColumnType.DOUBLE, 12.5);
+        entity.addDynamicColumn("name", ColumnType.STRING, "tablestore");
+        entity.addDynamicColumn("number", ColumnType.STRING, "12345");
+        entity.addDynamicColumn("tags", ColumnType.STRING, "[\"a\",\"b\",\"c\"]");
+    }
+
+    @Benchmark
+    public DynamicEntity addDynamicColumn() {
+        DynamicEntity data = new DynamicEntity();
+        data.addDynamicColumn("count", 42L);
+        data.addDynamicColumn("amount", 12.5);
+        data.addDynamicColumn("name", "tablestore");
+        return data;
+    }
+
+    @Benchmark
+    public long getDynamicColumnAsLong() {
+        return entity.getDynamicColumnAsLong("count");
+    }
+
+    @Benchmark
+    public double getDynamicColumnAsDouble() {
+        return entity.getDynamicColumnAsDouble("amount");
+    }
+
+    @Benchmark
+    public String getDynamicColumnAsString() {
+        return entity.getDynamicColumnAsString("name");
+    }
+
+    @Benchmark
+    public int getDynamicColumnAsIntFromString() {
+        return entity.getDynamicColumnAsInt("number");
+    }
+
+    @Benchmark
+    public List<String> getDynamicColumnAsList() {
+        return entity.getDynamicColumnAsList("tags", String.class);
+    }
+}
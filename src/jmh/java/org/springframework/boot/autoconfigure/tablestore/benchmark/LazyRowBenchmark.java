@@ -0,0 +1,213 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.model.LazyRow;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 150列宽表只读取少量列时，全量构建结果类与延迟视图的耗时对比
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LazyRowBenchmark {
+
+    private Row row;
+
+    @Setup
+    public void setup() {
+        RowPutChange change = OtsUtils.rowPutChange(new WideEntity());
+        row = new Row(change.getPrimaryKey(), change.getColumnsToPut());
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        WideEntity entity = OtsUtils.build(row, WideEntity.class);
+        blackhole.consume(entity.c1);
+        blackhole.consume(entity.c75);
+        blackhole.consume(entity.c149);
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        LazyRow<WideEntity> lazyRow = new LazyRow<>(row, WideEntity.class);
+        blackhole.consume(lazyRow.get("c1"));
+        blackhole.consume(lazyRow.get("c75"));
+        blackhole.consume(lazyRow.get("c149"));
+    }
+
+    @Table(name = "wide")
+    public static class WideEntity {
+
+        @OtsColumn(primaryKey = true)
+        public String id = "id";
+
+        public String c0 = "value-0";
+        public String c1 = "value-1";
+        public String c2 = "value-2";
+        public String c3 = "value-3";
+        public String c4 = "value-4";
+        public String c5 = "value-5";
+        public String c6 = "value-6";
+        public String c7 = "value-7";
+        public String c8 = "value-8";
+        public String c9 = "value-9";
+        public String c10 = "value-10";
+        public String c11 = "value-11";
+        public String c12 = "value-12";
+        public String c13 = "value-13";
+        public String c14 = "value-14";
+        public String c15 = "value-15";
+        public String c16 = "value-16";
+        public String c17 = "value-17";
+        public String c18 = "value-18";
+        public String c19 = "value-19";
+        public String c20 = "value-20";
+        public String c21 = "value-21";
+        public String c22 = "value-22";
+        public String c23 = "value-23";
+        public String c24 = "value-24";
+        public String c25 = "value-25";
+        public String c26 = "value-26";
+        public String c27 = "value-27";
+        public String c28 = "value-28";
+        public String c29 = "value-29";
+        public String c30 = "value-30";
+        public String c31 = "value-31";
+        public String c32 = "value-32";
+        public String c33 = "value-33";
+        public String c34 = "value-34";
+        public String c35 = "value-35";
+        public String c36 = "value-36";
+        public String c37 = "value-37";
+        public String c38 = "value-38";
+        public String c39 = "value-39";
+        public String c40 = "value-40";
+        public String c41 = "value-41";
+        public String c42 = "value-42";
+        public String c43 = "value-43";
+        public String c44 = "value-44";
+        public String c45 = "value-45";
+        public String c46 = "value-46";
+        public String c47 = "value-47";
+        public String c48 = "value-48";
+        public String c49 = "value-49";
+        public String c50 = "value-50";
+        public String c51 = "value-51";
+        public String c52 = "value-52";
+        public String c53 = "value-53";
+        public String c54 = "value-54";
+        public String c55 = "value-55";
+        public String c56 = "value-56";
+        public String c57 = "value-57";
+        public String c58 = "value-58";
+        public String c59 = "value-59";
+        public String c60 = "value-60";
+        public String c61 = "value-61";
+        public String c62 = "value-62";
+        public String c63 = "value-63";
+        public String c64 = "value-64";
+        public String c65 = "value-65";
+        public String c66 = "value-66";
+        public String c67 = "value-67";
+        public String c68 = "value-68";
+        public String c69 = "value-69";
+        public String c70 = "value-70";
+        public String c71 = "value-71";
+        public String c72 = "value-72";
+        public String c73 = "value-73";
+        public String c74 = "value-74";
+        public String c75 = "value-75";
+        public String c76 = "value-76";
+        public String c77 = "value-77";
+        public String c78 = "value-78";
+        public String c79 = "value-79";
+        public String c80 = "value-80";
+        public String c81 = "value-81";
+        public String c82 = "value-82";
+        public String c83 = "value-83";
+        public String c84 = "value-84";
+        public String c85 = "value-85";
+        public String c86 = "value-86";
+        public String c87 = "value-87";
+        public String c88 = "value-88";
+        public String c89 = "value-89";
+        public String c90 = "value-90";
+        public String c91 = "value-91";
+        public String c92 = "value-92";
+        public String c93 = "value-93";
+        public String c94 = "value-94";
+        public String c95 = "value-95";
+        public String c96 = "value-96";
+        public String c97 = "value-97";
+        public String c98 = "value-98";
+        public String c99 = "value-99";
+        public String c100 = "value-100";
+        public String c101 = "value-101";
+        public String c102 = "value-102";
+        public String c103 = "value-103";
+        public String c104 = "value-104";
+        public String c105 = "value-105";
+        public String c106 = "value-106";
+        public String c107 = "value-107";
+        public String c108 = "value-108";
+        public String c109 = "value-109";
+        public String c110 = "value-110";
+        public String c111 = "value-111";
+        public String c112 = "value-112";
+        public String c113 = "value-113";
+        public String c114 = "value-114";
+        public String c115 = "value-115";
+        public String c116 = "value-116";
+        public String c117 = "value-117";
+        public String c118 = "value-118";
+        public String c119 = "value-119";
+        public String c120 = "value-120";
+        public String c121 = "value-121";
+        public String c122 = "value-122";
+        public String c123 = "value-123";
+        public String c124 = "value-124";
+        public String c125 = "value-125";
+        public String c126 = "value-126";
+        public String c127 = "value-127";
+        public String c128 = "value-128";
+        public String c129 = "value-129";
+        public String c130 = "value-130";
+        public String c131 = "value-131";
+        public String c132 = "value-132";
+        public String c133 = "value-133";
+        public String c134 = "value-134";
+        public String c135 = "value-135";
+        public String c136 = "value-136";
+        public String c137 = "value-137";
+        public String c138 = "value-138";
+        public String c139 = "value-139";
+        public String c140 = "value-140";
+        public String c141 = "value-141";
+        public String c142 = "value-142";
+        public String c143 = "value-143";
+        public String c144 = "value-144";
+        public String c145 = "value-145";
+        public String c146 = "value-146";
+        public String c147 = "value-147";
+        public String c148 = "value-148";
+        public String c149 = "value-149";
+    }
+}
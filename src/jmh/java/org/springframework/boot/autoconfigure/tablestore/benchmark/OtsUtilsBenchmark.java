@@ -0,0 +1,76 @@
+package org.springframework.boot.autoconfigure.tablestore.benchmark;
+
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.alicloud.openservices.tablestore.model.StreamRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象映射主路径：行转对象、对象转行变更、对象转主键
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OtsUtilsBenchmark {
+
+    @Param({"narrow", "wide", "dynamic"})
+    private String shape;
+
+    private Object entity;
+
+    private Class<?> clazz;
+
+    private Row row;
+
+    private StreamRecord streamRecord;
+
+    @Setup
+    public void setup() {
+        entity = BenchmarkEntities.entity(shape);
+        clazz = entity.getClass();
+        row = BenchmarkEntities.row(entity);
+        streamRecord = BenchmarkEntities.streamRecord(entity);
+    }
+
+    @Benchmark
+    public Object buildRow() {
+        return OtsUtils.build(row, clazz);
+    }
+
+    @Benchmark
+    public Object buildStreamRecord() {
+        return OtsUtils.build(streamRecord, clazz);
+    }
+
+    @Benchmark
+    public RowPutChange rowPutChange() {
+        return OtsUtils.rowPutChange(entity);
+    }
+
+    @Benchmark
+    public RowUpdateChange rowUpdateChange() {
+        return OtsUtils.rowUpdateChange(entity, true);
+    }
+
+    @Benchmark
+    public PrimaryKey primaryKey() {
+        return ColumnUtils.primaryKey(entity);
+    }
+}
@@ -1,18 +1,36 @@
 package org.springframework.boot.autoconfigure.tablestore;
 
+import com.alicloud.openservices.tablestore.AsyncClient;
 import com.alicloud.openservices.tablestore.SyncClient;
 import com.alicloud.openservices.tablestore.TunnelClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.tablestore.service.BulkImportService;
+import org.springframework.boot.autoconfigure.tablestore.service.ReactiveTableStoreService;
+import org.springframework.boot.autoconfigure.tablestore.service.TableStoreAsyncService;
 import org.springframework.boot.autoconfigure.tablestore.service.TableStoreService;
 import org.springframework.boot.autoconfigure.tablestore.service.TunnelService;
+import org.springframework.boot.autoconfigure.tablestore.service.impl.BulkImportServiceImpl;
+import org.springframework.boot.autoconfigure.tablestore.service.impl.ReactiveTableStoreServiceImpl;
+import org.springframework.boot.autoconfigure.tablestore.service.impl.TableStoreAsyncServiceImpl;
 import org.springframework.boot.autoconfigure.tablestore.service.impl.TableStoreServiceImpl;
 import org.springframework.boot.autoconfigure.tablestore.service.impl.TunnelServiceImpl;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializer;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializerInitializer;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializers;
+import org.springframework.boot.autoconfigure.tablestore.writer.BufferedTableWriter;
+import org.springframework.boot.autoconfigure.tablestore.writer.CounterAggregator;
+import org.springframework.boot.autoconfigure.tablestore.writer.impl.BufferedTableWriterImpl;
+import org.springframework.boot.autoconfigure.tablestore.writer.impl.CounterAggregatorImpl;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import javax.annotation.Resource;
+import java.util.concurrent.Executors;
 
 /**
  * Created on 2020/10/09
@@ -28,17 +46,74 @@ public class TableStoreAutoConfiguration {
     private TableStoreProperties properties;
 
     @Bean
+    @DependsOn("columnSerializerInitializer")
     @ConditionalOnMissingBean(name = {"tableStoreService"})
-    public TableStoreService tableStoreService(SyncClient syncClient) {
-        return new TableStoreServiceImpl(syncClient);
+    public TableStoreService tableStoreService(SyncClient syncClient, TableStoreExecutor tableStoreExecutor) {
+        return new TableStoreServiceImpl(syncClient, properties, tableStoreExecutor.executor());
     }
 
     @Bean
+    @DependsOn("columnSerializerInitializer")
+    @ConditionalOnMissingBean(name = {"tableStoreAsyncService"})
+    @ConditionalOnProperty(prefix = "tablestore.async", name = "enabled", havingValue = "true")
+    public TableStoreAsyncService tableStoreAsyncService(AsyncClient asyncClient, TableStoreExecutor tableStoreExecutor) {
+        return new TableStoreAsyncServiceImpl(asyncClient, properties, tableStoreExecutor.executor());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = {"bulkImportService"})
+    public BulkImportService bulkImportService(TableStoreService tableStoreService) {
+        return new BulkImportServiceImpl(tableStoreService, properties);
+    }
+
+    /**
+     * 以非Executor类型注册，不影响应用的applicationTaskExecutor
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = {"tableStoreExecutor"})
+    public TableStoreExecutor tableStoreExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tablestore-batch-");
+        threadFactory.setDaemon(true);
+        return new TableStoreExecutor(Executors.newFixedThreadPool(properties.getBatch().getParallelism(), threadFactory));
+    }
+
+    @Bean
+    @DependsOn("columnSerializerInitializer")
     @ConditionalOnMissingBean(name = {"tunnelService"})
     public TunnelService tunnelService(TunnelClient tunnelClient) {
         return new TunnelServiceImpl(tunnelClient);
     }
 
+    @Bean(destroyMethod = "close")
+    @DependsOn("columnSerializerInitializer")
+    @ConditionalOnMissingBean(name = {"bufferedTableWriter"})
+    @ConditionalOnProperty(prefix = "tablestore.writer", name = "enabled", havingValue = "true")
+    public BufferedTableWriter bufferedTableWriter(SyncClient syncClient) {
+        return new BufferedTableWriterImpl(syncClient, properties.getWriter());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(name = {"counterAggregator"})
+    @ConditionalOnProperty(prefix = "tablestore.counter", name = "enabled", havingValue = "true")
+    public CounterAggregator counterAggregator(BufferedTableWriter bufferedTableWriter) {
+        return new CounterAggregatorImpl(bufferedTableWriter, properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ColumnSerializer columnSerializer() {
+        return ColumnSerializers.of(properties.getSerializer());
+    }
+
+    /**
+     * 注册全局序列化方式，自定义的tableStoreService等Bean同样生效
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = {"columnSerializerInitializer"})
+    public ColumnSerializerInitializer columnSerializerInitializer(ColumnSerializer columnSerializer) {
+        return new ColumnSerializerInitializer(columnSerializer);
+    }
+
     @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean(name = {"syncClient"})
     public SyncClient syncClient() {
@@ -48,6 +123,16 @@ public class TableStoreAutoConfiguration {
             properties.getInstance());
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = {"asyncClient"})
+    @ConditionalOnProperty(prefix = "tablestore.async", name = "enabled", havingValue = "true")
+    public AsyncClient asyncClient() {
+        return new AsyncClient(properties.getEndpoint(),
+            properties.getAccessKeyId(),
+            properties.getAccessKeySecret(),
+            properties.getInstance());
+    }
+
     @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean(name = {"tunnelClient"})
     public TunnelClient tunnelClient() {
@@ -56,4 +141,21 @@ public class TableStoreAutoConfiguration {
             properties.getAccessKeySecret(),
             properties.getInstance());
     }
+
+    /**
+     * 仅在引入reactor-core并开启tablestore.async.enabled时生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    @ConditionalOnProperty(prefix = "tablestore.async", name = "enabled", havingValue = "true")
+    static class ReactiveConfiguration {
+
+        @Bean
+        @DependsOn("columnSerializerInitializer")
+        @ConditionalOnMissingBean(name = {"reactiveTableStoreService"})
+        public ReactiveTableStoreService reactiveTableStoreService(AsyncClient asyncClient, TableStoreProperties properties,
+                                                                   TableStoreExecutor tableStoreExecutor) {
+            return new ReactiveTableStoreServiceImpl(asyncClient, properties, tableStoreExecutor.executor());
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package org.springframework.boot.autoconfigure.tablestore;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 拆分请求、预读与异步结果转换使用的线程池
+ * <p>
+ * 本身不实现Executor：容器中出现Executor类型的Bean时，Spring Boot不再创建applicationTaskExecutor，
+ * &#64;Async等会改用该线程池，因此只以持有者的形式注册，容器关闭时关闭线程池
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class TableStoreExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public TableStoreExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
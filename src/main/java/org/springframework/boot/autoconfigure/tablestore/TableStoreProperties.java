@@ -1,7 +1,14 @@
 package org.springframework.boot.autoconfigure.tablestore;
 
+import org.springframework.boot.autoconfigure.tablestore.enums.BackpressureStrategy;
+import org.springframework.boot.autoconfigure.tablestore.enums.SerializerType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Created on 2020/10/09
  *
@@ -25,6 +32,34 @@ public class TableStoreProperties {
      * 阿里云表格存储实例名
      */
     private String instance;
+    /**
+     * 对象、List、Map类型字段的序列化方式
+     */
+    private SerializerType serializer = SerializerType.FASTJSON;
+    /**
+     * 读取时未指定返回列，是否按结果类的可读字段裁剪返回列（继承DynamicColumn的类除外）
+     */
+    private boolean projection = false;
+    /**
+     * 缓冲批量写入配置
+     */
+    private Writer writer = new Writer();
+    /**
+     * batchPut、batchUpdate拆分与并发配置
+     */
+    private Batch batch = new Batch();
+    /**
+     * 计数器聚合配置
+     */
+    private Counter counter = new Counter();
+    /**
+     * rangeGet、rangeIterator分页预读配置
+     */
+    private Scan scan = new Scan();
+    /**
+     * 异步客户端配置
+     */
+    private Async async = new Async();
 
     public String getAccessKeyId() {
         return accessKeyId;
@@ -57,4 +92,367 @@ public class TableStoreProperties {
     public void setInstance(String instance) {
         this.instance = instance;
     }
+
+    public SerializerType getSerializer() {
+        return serializer;
+    }
+
+    public void setSerializer(SerializerType serializer) {
+        this.serializer = serializer;
+    }
+
+    public boolean isProjection() {
+        return projection;
+    }
+
+    public void setProjection(boolean projection) {
+        this.projection = projection;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+    public void setWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    public Counter getCounter() {
+        return counter;
+    }
+
+    public void setCounter(Counter counter) {
+        this.counter = counter;
+    }
+
+    public Scan getScan() {
+        return scan;
+    }
+
+    public void setScan(Scan scan) {
+        this.scan = scan;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+
+    public static class Writer {
+        /**
+         * 是否创建BufferedTableWriter
+         */
+        private boolean enabled = false;
+        /**
+         * 缓冲区最多容纳的行数，包括发送中的行
+         */
+        private int bufferSize = 10000;
+        /**
+         * 单个BatchWriteRow请求的最大行数
+         */
+        private int maxBatchRows = 200;
+        /**
+         * 单个BatchWriteRow请求的最大字节数
+         */
+        private long maxBatchBytes = 4 * 1024 * 1024;
+        /**
+         * 首行进入批次后最长等待时间，超时即发送
+         */
+        private Duration linger = Duration.ofMillis(50);
+        /**
+         * 同时发送中的请求数
+         */
+        private int maxInFlight = 4;
+        /**
+         * 缓冲区已满时的处理方式
+         */
+        private BackpressureStrategy backpressure = BackpressureStrategy.BLOCK;
+        /**
+         * 是否合并同一批次内同一行的无条件写入
+         */
+        private boolean coalesce = true;
+        /**
+         * 按分区键划分的通道数，每个通道单独排队与发送，缓冲区容量平均分配，maxInFlight为单个通道的上限
+         */
+        private int partitions = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getMaxBatchRows() {
+            return maxBatchRows;
+        }
+
+        public void setMaxBatchRows(int maxBatchRows) {
+            this.maxBatchRows = maxBatchRows;
+        }
+
+        public long getMaxBatchBytes() {
+            return maxBatchBytes;
+        }
+
+        public void setMaxBatchBytes(long maxBatchBytes) {
+            this.maxBatchBytes = maxBatchBytes;
+        }
+
+        public Duration getLinger() {
+            return linger;
+        }
+
+        public void setLinger(Duration linger) {
+            this.linger = linger;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public BackpressureStrategy getBackpressure() {
+            return backpressure;
+        }
+
+        public void setBackpressure(BackpressureStrategy backpressure) {
+            this.backpressure = backpressure;
+        }
+
+        public boolean isCoalesce() {
+            return coalesce;
+        }
+
+        public void setCoalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+        }
+
+        public int getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(int partitions) {
+            this.partitions = partitions;
+        }
+    }
+
+    public static class Counter {
+        /**
+         * 是否创建CounterAggregator，依赖BufferedTableWriter
+         */
+        private boolean enabled = false;
+        /**
+         * 定时刷新间隔
+         */
+        private Duration interval = Duration.ofSeconds(1);
+        /**
+         * 内存中的计数器数量达到该值时提前刷新
+         */
+        private int maxKeys = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+    }
+
+    public static class Async {
+        /**
+         * 是否创建AsyncClient、TableStoreAsyncService与ReactiveTableStoreService
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Scan {
+        /**
+         * 消费当前页时在tableStoreExecutor中预先读取的页数，为0时消费完当前页才读取下一页
+         */
+        private int prefetch = 1;
+        /**
+         * 已预读未消费的页的最大字节数，达到后暂停预读，单页最大4MB
+         */
+        private long maxBufferedBytes = 16 * 1024 * 1024;
+
+        public int getPrefetch() {
+            return prefetch;
+        }
+
+        public void setPrefetch(int prefetch) {
+            this.prefetch = prefetch;
+        }
+
+        public long getMaxBufferedBytes() {
+            return maxBufferedBytes;
+        }
+
+        public void setMaxBufferedBytes(long maxBufferedBytes) {
+            this.maxBufferedBytes = maxBufferedBytes;
+        }
+    }
+
+    public static class Batch {
+        /**
+         * 拆分后单个BatchWriteRow请求的最大行数
+         */
+        private int maxRows = 200;
+        /**
+         * 拆分后单个BatchWriteRow请求的最大字节数
+         */
+        private long maxBytes = 4 * 1024 * 1024;
+        /**
+         * 并发执行拆分请求的线程数
+         */
+        private int parallelism = 4;
+        /**
+         * batchPutWithRetry、batchUpdateWithRetry失败行重试配置
+         */
+        private Retry retry = new Retry();
+
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        public void setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public void setRetry(Retry retry) {
+            this.retry = retry;
+        }
+    }
+
+    public static class Retry {
+        /**
+         * 每行最多发送次数，包括首次发送
+         */
+        private int maxAttempts = 4;
+        /**
+         * 首次重试前的退避上限，之后每次翻倍
+         */
+        private Duration backoff = Duration.ofMillis(100);
+        /**
+         * 退避上限的最大值
+         */
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        /**
+         * 单个请求从首次发送起可用于重试的总时间
+         */
+        private Duration budget = Duration.ofSeconds(10);
+        /**
+         * 可重试的错误码，默认为限流与分区暂不可用
+         */
+        private Set<String> errorCodes = new HashSet<>(Arrays.asList(
+                "OTSServerBusy", "OTSQuotaExhausted", "OTSPartitionUnavailable", "OTSNotEnoughCapacityUnit"));
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(Duration backoff) {
+            this.backoff = backoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getBudget() {
+            return budget;
+        }
+
+        public void setBudget(Duration budget) {
+            this.budget = budget;
+        }
+
+        public Set<String> getErrorCodes() {
+            return errorCodes;
+        }
+
+        public void setErrorCodes(Set<String> errorCodes) {
+            this.errorCodes = errorCodes;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.springframework.boot.autoconfigure.tablestore.annotation;
 
 import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
 import org.springframework.boot.autoconfigure.tablestore.utils.compress.NoCompress;
 
 import java.lang.annotation.Documented;
@@ -63,9 +64,9 @@ public @interface OtsColumn {
     OtsColumnType type() default OtsColumnType.NONE;
 
     /**
-     * Compress class (default null)
+     * Compress codec class (default no compress)
      *
      * @return compress
      */
-    Class<?> compress() default NoCompress.class;
+    Class<? extends CompressionCodec> compress() default NoCompress.class;
 }
@@ -31,4 +31,11 @@ public @interface Table {
      * @return 该对象映射的索引名
      */
     String index() default "";
+
+    /**
+     * 是否跟踪读取结果的修改，开启后通过get、rangeGet、batchGet等读取的对象在update时只发送修改过的列
+     *
+     * @return 是否跟踪修改
+     */
+    boolean trackChanges() default false;
 }
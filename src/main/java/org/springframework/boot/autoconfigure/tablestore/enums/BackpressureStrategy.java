@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.enums;
+
+/**
+ * 写入缓冲区已满时的处理方式
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public enum BackpressureStrategy {
+    /**
+     * 阻塞调用线程直到缓冲区有空位
+     */
+    BLOCK,
+    /**
+     * 丢弃该行，返回以OtsRejectedException失败的Future
+     */
+    DROP,
+    /**
+     * 直接抛出OtsRejectedException
+     */
+    FAIL
+}
@@ -0,0 +1,19 @@
+package org.springframework.boot.autoconfigure.tablestore.enums;
+
+/**
+ * 批量导入的文件格式，均按UTF-8读取
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public enum ImportFormat {
+    /**
+     * 首行为列名，字段可用双引号包裹，引号内可包含分隔符与换行，两个连续双引号表示一个双引号
+     */
+    CSV,
+    /**
+     * 每行一个JSON对象，键为列名
+     */
+    JSONL
+}
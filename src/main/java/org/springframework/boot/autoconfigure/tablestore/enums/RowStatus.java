@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.enums;
+
+/**
+ * 批量读取中单个主键的结果状态
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public enum RowStatus {
+    /**
+     * 行存在
+     */
+    PRESENT,
+    /**
+     * 行不存在
+     */
+    ABSENT,
+    /**
+     * 读取失败，错误见errors
+     */
+    FAILED
+}
@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.enums;
+
+/**
+ * 对象、List、Map类型字段的序列化方式
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public enum SerializerType {
+    /**
+     * fastjson，以STRING存储
+     */
+    FASTJSON,
+    /**
+     * Jackson，以STRING存储，需引入jackson-databind
+     */
+    JACKSON,
+    /**
+     * Jackson Smile二进制格式，以BINARY存储，可读取STRING存储的JSON，需引入jackson-dataformat-smile
+     */
+    SMILE
+}
@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.exception;
+
+/**
+ * 列值压缩、解压失败
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class OtsCompressException extends OtsException {
+
+    public OtsCompressException(String message) {
+        super(message);
+    }
+
+    public OtsCompressException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public OtsCompressException(String format, Throwable cause, Object... objects) {
+        super(format, cause, objects);
+    }
+}
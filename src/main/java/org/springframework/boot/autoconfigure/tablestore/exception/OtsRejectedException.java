@@ -0,0 +1,19 @@
+package org.springframework.boot.autoconfigure.tablestore.exception;
+
+/**
+ * 写入缓冲区已满或已关闭，行未被接收
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class OtsRejectedException extends OtsException {
+
+    public OtsRejectedException(String message) {
+        super(message);
+    }
+
+    public OtsRejectedException(String format, Object... objects) {
+        super(format, objects);
+    }
+}
@@ -0,0 +1,32 @@
+package org.springframework.boot.autoconfigure.tablestore.exception;
+
+import com.alicloud.openservices.tablestore.model.Error;
+import com.alicloud.openservices.tablestore.model.RowChange;
+
+/**
+ * 批量写入中单行写入失败
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class OtsWriteException extends OtsException {
+
+    private final transient RowChange rowChange;
+
+    private final transient Error error;
+
+    public OtsWriteException(RowChange rowChange, Error error) {
+        super("write row error, table: %s, primary key: %s, error: %s", rowChange.getTableName(), rowChange.getPrimaryKey(), error);
+        this.rowChange = rowChange;
+        this.error = error;
+    }
+
+    public RowChange rowChange() {
+        return rowChange;
+    }
+
+    public Error error() {
+        return error;
+    }
+}
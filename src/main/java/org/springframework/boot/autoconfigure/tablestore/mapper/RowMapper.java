@@ -0,0 +1,57 @@
+package org.springframework.boot.autoconfigure.tablestore.mapper;
+
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.alicloud.openservices.tablestore.model.StreamRecord;
+
+/**
+ * 行与对象之间的映射器
+ * <p>
+ * 由tablestore-spring-boot-processor在编译期为标注了{@link org.springframework.boot.autoconfigure.tablestore.annotation.Table}
+ * 的类生成，类名为原类名加{@link #SUFFIX}，运行时存在时优先使用，否则使用反射映射
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface RowMapper<T> {
+
+    /**
+     * 生成的映射器类名后缀
+     */
+    String SUFFIX = "_RowMapper";
+
+    /**
+     * 根据行结果构造结果类
+     *
+     * @param row 行结果
+     * @return 返回结果类
+     */
+    T fromRow(Row row);
+
+    /**
+     * 根据Stream结果构造结果类
+     *
+     * @param record stream结果
+     * @return 返回结果类
+     */
+    T fromStreamRecord(StreamRecord record);
+
+    /**
+     * 构造TableStore插入行
+     *
+     * @param data 原始数据
+     * @return 返回TableStore插入行变更
+     */
+    RowPutChange toRowPutChange(T data);
+
+    /**
+     * 构造TableStore更新行
+     *
+     * @param data       原始数据
+     * @param deleteNull 是否删除为Null字段
+     * @return 返回TableStore更新行变更
+     */
+    RowUpdateChange toRowUpdateChange(T data, boolean deleteNull);
+}
@@ -0,0 +1,52 @@
+package org.springframework.boot.autoconfigure.tablestore.mapper;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 查找编译期生成的{@link RowMapper}，查找结果按类缓存
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class RowMappers {
+
+    private static final Map<Class<?>, Optional<RowMapper<?>>> MAPPERS = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 获取类对应的生成映射器
+     *
+     * @param clazz 类类型
+     * @param <T>   泛型
+     * @return 生成的映射器，不存在时返回null
+     */
+    @SuppressWarnings(value = "unchecked")
+    public static <T> RowMapper<T> find(Class<T> clazz) {
+        Optional<RowMapper<?>> mapper = MAPPERS.get(clazz);
+        if (mapper == null) {
+            mapper = MAPPERS.computeIfAbsent(clazz, key -> Optional.ofNullable(load(key)));
+        }
+        return (RowMapper<T>) mapper.orElse(null);
+    }
+
+    private static RowMapper<?> load(Class<?> clazz) {
+        String mapperName = clazz.getName() + RowMapper.SUFFIX;
+        if (!ClassUtils.isPresent(mapperName, clazz.getClassLoader())) {
+            return null;
+        }
+        try {
+            Class<?> mapperClass = ClassUtils.forName(mapperName, clazz.getClassLoader());
+            if (!RowMapper.class.isAssignableFrom(mapperClass)) {
+                return null;
+            }
+            return (RowMapper<?>) mapperClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new OtsException("row mapper instance error, class: %s", e, mapperName);
+        }
+    }
+}
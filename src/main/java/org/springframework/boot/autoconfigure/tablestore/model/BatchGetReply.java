@@ -4,6 +4,7 @@ import com.alicloud.openservices.tablestore.model.Error;
 import com.alicloud.openservices.tablestore.model.PrimaryKey;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.enums.RowStatus;
 
 import java.util.List;
 
@@ -18,6 +19,10 @@ public class BatchGetReply<T> {
 
     private final List<Pair<PrimaryKey, Error>> errors = Lists.newArrayList();
 
+    private final List<T> results = Lists.newArrayList();
+
+    private final List<RowStatus> statuses = Lists.newArrayList();
+
     public void add(T record) {
         records.add(record);
     }
@@ -33,4 +38,37 @@ public class BatchGetReply<T> {
     public List<Pair<PrimaryKey, Error>> errors() {
         return errors;
     }
+
+    /**
+     * 按请求主键的顺序追加一个结果
+     *
+     * @param record 结果，行不存在或读取失败时为null
+     * @param status 结果状态
+     */
+    public void addResult(T record, RowStatus status) {
+        results.add(record);
+        statuses.add(status);
+    }
+
+    /**
+     * @return 与请求主键一一对应的结果，行不存在或读取失败的位置为null
+     */
+    public List<T> results() {
+        return results;
+    }
+
+    /**
+     * @return 与请求主键一一对应的结果状态
+     */
+    public List<RowStatus> statuses() {
+        return statuses;
+    }
+
+    /**
+     * @param index 请求主键的下标
+     * @return 该主键对应的行是否存在
+     */
+    public boolean present(int index) {
+        return statuses.get(index) == RowStatus.PRESENT;
+    }
 }
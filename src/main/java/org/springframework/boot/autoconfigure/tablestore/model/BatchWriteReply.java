@@ -0,0 +1,60 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import com.alicloud.openservices.tablestore.model.Error;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+
+/**
+ * 批量写入结果，成功与失败的数据均按输入顺序排列
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class BatchWriteReply<T> {
+
+    private final List<T> records = Lists.newArrayList();
+
+    private final List<Pair<T, Error>> errors = Lists.newArrayList();
+
+    private int retries;
+
+    public void add(T record) {
+        records.add(record);
+    }
+
+    public void addError(Pair<T, Error> error) {
+        errors.add(error);
+    }
+
+    public void addRetries(int retries) {
+        this.retries += retries;
+    }
+
+    /**
+     * @return 写入成功的数据
+     */
+    public List<T> records() {
+        return records;
+    }
+
+    /**
+     * @return 写入失败的数据及最后一次失败的错误
+     */
+    public List<Pair<T, Error>> errors() {
+        return errors;
+    }
+
+    /**
+     * @return 重试发送的总行数
+     */
+    public int retries() {
+        return retries;
+    }
+
+    public boolean isAllSucceed() {
+        return errors.isEmpty();
+    }
+}
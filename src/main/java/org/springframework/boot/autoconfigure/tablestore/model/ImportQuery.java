@@ -0,0 +1,105 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import com.alicloud.openservices.tablestore.model.Condition;
+import org.springframework.boot.autoconfigure.tablestore.enums.ImportFormat;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 批量导入请求
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ImportQuery {
+
+    private Path path;
+
+    private ImportFormat format;
+
+    private Path checkpoint;
+
+    private char delimiter = ',';
+
+    private Condition condition;
+
+    private int parallelism;
+
+    private long maxRejected = -1;
+
+    public Path path() {
+        return path;
+    }
+
+    public void path(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @return 文件格式，未指定时扩展名为.csv的按CSV读取，其余按JSONL读取
+     */
+    public ImportFormat format() {
+        if (format != null) {
+            return format;
+        }
+        return path.getFileName().toString().toLowerCase().endsWith(".csv") ? ImportFormat.CSV : ImportFormat.JSONL;
+    }
+
+    public void format(ImportFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * @return 检查点文件，未指定时为导入文件同目录下的同名.checkpoint文件
+     */
+    public Path checkpoint() {
+        if (checkpoint != null) {
+            return checkpoint;
+        }
+        return Paths.get(path.toString() + ".checkpoint");
+    }
+
+    public void checkpoint(Path checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    public char delimiter() {
+        return delimiter;
+    }
+
+    public void delimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    public Condition condition() {
+        return condition;
+    }
+
+    public void condition(Condition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * @return 同时解析与写入的批次数，小于等于0时使用batch.parallelism
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public void parallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return 允许的最多拒绝行数，超过后停止导入，小于0时不限制
+     */
+    public long maxRejected() {
+        return maxRejected;
+    }
+
+    public void maxRejected(long maxRejected) {
+        this.maxRejected = maxRejected;
+    }
+}
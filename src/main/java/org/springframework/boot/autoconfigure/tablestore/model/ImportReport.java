@@ -0,0 +1,101 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import java.time.Duration;
+
+/**
+ * 批量导入结果，行数包含从检查点恢复前已导入的部分
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ImportReport {
+
+    private long rows;
+
+    private long rejected;
+
+    private long resumedFrom;
+
+    private long offset;
+
+    private Duration elapsed = Duration.ZERO;
+
+    private long elapsedRows;
+
+    /**
+     * @return 写入成功的行数
+     */
+    public long rows() {
+        return rows;
+    }
+
+    public void rows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * @return 解析、编码或写入失败的行数
+     */
+    public long rejected() {
+        return rejected;
+    }
+
+    public void rejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    /**
+     * @return 本次导入开始的字节偏移，从头开始时为0
+     */
+    public long resumedFrom() {
+        return resumedFrom;
+    }
+
+    public void resumedFrom(long resumedFrom) {
+        this.resumedFrom = resumedFrom;
+    }
+
+    /**
+     * @return 已完成部分的字节偏移，与检查点一致
+     */
+    public long offset() {
+        return offset;
+    }
+
+    public void offset(long offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * @return 本次导入耗时
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    public void elapsed(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @param elapsedRows 本次导入处理的行数，包括被拒绝的行
+     */
+    public void elapsedRows(long elapsedRows) {
+        this.elapsedRows = elapsedRows;
+    }
+
+    /**
+     * @return 本次导入每秒处理的行数
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos <= 0 ? 0 : elapsedRows * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rows: %d, rejected: %d, offset: %d, resumed from: %d, elapsed: %s, rows/s: %.1f",
+                rows, rejected, offset, resumedFrom, elapsed, rowsPerSecond());
+    }
+}
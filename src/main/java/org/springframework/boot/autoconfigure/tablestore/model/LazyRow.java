@@ -0,0 +1,178 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.Row;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+/**
+ * 基于原始行的延迟视图，映射字段在首次访问时解码并缓存，适用于宽表只读取少量列的场景
+ * <p>
+ * 与结果类一样非线程安全
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class LazyRow<T> {
+
+    /**
+     * 已解码且值为null的占位
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * 访问的字段数不超过该值时按访问顺序线性查找，超过后按字段下标缓存
+     */
+    private static final int SMALL_SIZE = 8;
+
+    private final Row row;
+
+    private final Class<T> clazz;
+
+    private final TableMapping mapping;
+
+    private int[] decodedPositions;
+
+    private Object[] decodedValues;
+
+    private int decodedSize;
+
+    private Object[] values;
+
+    private T entity;
+
+    public LazyRow(Row row, Class<T> clazz) {
+        this.row = row;
+        this.clazz = clazz;
+        this.mapping = FieldUtils.getTableMapping(clazz);
+    }
+
+    public Row row() {
+        return row;
+    }
+
+    public PrimaryKey primaryKey() {
+        return row.getPrimaryKey();
+    }
+
+    public Class<T> clazz() {
+        return clazz;
+    }
+
+    /**
+     * 行中是否包含该列
+     *
+     * @param columnName 列名
+     * @return 是否包含
+     */
+    public boolean contains(String columnName) {
+        return row.getPrimaryKey().contains(columnName) || row.contains(columnName);
+    }
+
+    /**
+     * 获取列值，映射字段按字段编解码器解码并缓存，未映射的列按存储类型转换且不缓存
+     *
+     * @param columnName 列名
+     * @return 列值，列不存在或字段不可读时返回null
+     */
+    public Object get(String columnName) {
+        int position = mapping.position(columnName);
+        if (position < 0) {
+            Column column = row.getLatestColumn(columnName);
+            return column == null ? null : ColumnUtils.getValue(column);
+        }
+        Object value = decoded(position);
+        if (value == null) {
+            value = decode(mapping.fieldInfo(position));
+            memoize(position, value);
+        }
+        return value == NULL ? null : value;
+    }
+
+    /**
+     * 获取列值
+     *
+     * @param columnName 列名
+     * @param type       列值类型
+     * @param <V>        列值泛型
+     * @return 列值
+     */
+    public <V> V get(String columnName, Class<V> type) {
+        return type.cast(get(columnName));
+    }
+
+    /**
+     * 解码全部列构造结果类，结果会被缓存
+     *
+     * @return 结果类
+     */
+    public T entity() {
+        if (entity == null) {
+            entity = OtsUtils.build(row, clazz);
+        }
+        return entity;
+    }
+
+    private Object decoded(int position) {
+        if (values != null) {
+            return values[position];
+        }
+        for (int i = 0; i < decodedSize; i++) {
+            if (decodedPositions[i] == position) {
+                return decodedValues[i];
+            }
+        }
+        return null;
+    }
+
+    private void memoize(int position, Object value) {
+        if (values != null) {
+            values[position] = value;
+            return;
+        }
+        if (decodedSize == SMALL_SIZE) {
+            values = new Object[mapping.size()];
+            for (int i = 0; i < decodedSize; i++) {
+                values[decodedPositions[i]] = decodedValues[i];
+            }
+            values[position] = value;
+            decodedPositions = null;
+            decodedValues = null;
+            return;
+        }
+        if (decodedPositions == null) {
+            decodedPositions = new int[SMALL_SIZE];
+            decodedValues = new Object[SMALL_SIZE];
+        }
+        decodedPositions[decodedSize] = position;
+        decodedValues[decodedSize++] = value;
+    }
+
+    private Object decode(FieldInfo fieldInfo) {
+        if (!fieldInfo.readable()) {
+            return NULL;
+        }
+        Object value = null;
+        PrimaryKeyColumn primaryKeyColumn = row.getPrimaryKey().getPrimaryKeyColumn(fieldInfo.columnName());
+        if (primaryKeyColumn != null) {
+            value = fieldInfo.codec().decode(primaryKeyColumn.getValue());
+        } else {
+            Column column = row.getLatestColumn(fieldInfo.columnName());
+            if (column != null) {
+                value = fieldInfo.codec().decode(column.getValue());
+            }
+        }
+        return value == null ? NULL : value;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyRow{" + clazz.getSimpleName() + ", " + row.getPrimaryKey() + "}";
+    }
+}
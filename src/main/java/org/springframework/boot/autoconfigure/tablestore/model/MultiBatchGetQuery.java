@@ -0,0 +1,46 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.google.common.base.Preconditions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 多表批量读取请求，每个结果类对应一张表的主键与返回列，合并在同一个BatchGetRow请求中发送
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class MultiBatchGetQuery {
+
+    private final Map<Class<?>, BatchGetQuery> queries = new LinkedHashMap<>();
+
+    public <T> void add(Class<T> clazz, List<PrimaryKey> primaryKeys) {
+        add(clazz, primaryKeys, null);
+    }
+
+    /**
+     * 添加一个结果类的读取，同一结果类只能添加一次
+     *
+     * @param clazz       结果类类型
+     * @param primaryKeys 主键集合
+     * @param columnNames 返回列，为空时规则同{@link BatchGetQuery}
+     * @param <T>         泛型
+     */
+    public <T> void add(Class<T> clazz, List<PrimaryKey> primaryKeys, List<String> columnNames) {
+        Preconditions.checkNotNull(clazz);
+        Preconditions.checkNotNull(primaryKeys);
+        Preconditions.checkArgument(!queries.containsKey(clazz), "duplicate class: %s", clazz.getName());
+        BatchGetQuery query = new BatchGetQuery();
+        query.primaryKeys(primaryKeys);
+        query.columnNames(columnNames);
+        queries.put(clazz, query);
+    }
+
+    public Map<Class<?>, BatchGetQuery> queries() {
+        return queries;
+    }
+}
@@ -0,0 +1,34 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 多表批量读取结果，按结果类分组
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class MultiBatchGetReply {
+
+    private final Map<Class<?>, BatchGetReply<?>> replies = new LinkedHashMap<>();
+
+    public void put(Class<?> clazz, BatchGetReply<?> reply) {
+        replies.put(clazz, reply);
+    }
+
+    /**
+     * @param clazz 结果类类型
+     * @param <T>   泛型
+     * @return 该结果类的读取结果，请求中未包含该结果类时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchGetReply<T> get(Class<T> clazz) {
+        return (BatchGetReply<T>) replies.get(clazz);
+    }
+
+    public Map<Class<?>, BatchGetReply<?>> replies() {
+        return replies;
+    }
+}
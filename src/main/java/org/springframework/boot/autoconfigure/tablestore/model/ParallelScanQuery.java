@@ -0,0 +1,76 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import java.util.List;
+
+/**
+ * 全表并发扫描请求
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ParallelScanQuery {
+
+    private List<String> columnNames;
+
+    private long splitSize = 1;
+
+    private int parallelism;
+
+    private boolean ordered;
+
+    private int bufferSize = 1000;
+
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    public void columnNames(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    /**
+     * @return ComputeSplitsBySize的分片大小，单位为100MB；分片越小，先完成的线程越容易领取到剩余分片
+     */
+    public long splitSize() {
+        return splitSize;
+    }
+
+    public void splitSize(long splitSize) {
+        this.splitSize = splitSize;
+    }
+
+    /**
+     * @return 同时扫描的分片数，小于等于0时为CPU核数
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public void parallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return 是否按主键顺序返回，为false时各分片的行交错返回
+     */
+    public boolean ordered() {
+        return ordered;
+    }
+
+    public void ordered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    /**
+     * @return 以流返回时每个扫描线程最多缓冲的行数；有序时为每个分片的缓冲行数，
+     * 领先的分片缓冲满后扫描线程等待调用线程，接近单个分片的行数时才能充分并发
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    public void bufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
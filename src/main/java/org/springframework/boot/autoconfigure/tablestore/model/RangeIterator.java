@@ -0,0 +1,48 @@
+package org.springframework.boot.autoconfigure.tablestore.model;
+
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 分页的范围读取迭代器，只持有当前页与预读页
+ * <p>
+ * tablestore.scan.prefetch大于0（默认为1）时，消费当前页的同时在后台请求其后至多prefetch页，
+ * 已预读未消费的页超过tablestore.scan.max-buffered-bytes时暂停预读，内存占用为当前页加上预读页，预读页的总字节数不超过该上限加一页；
+ * prefetch为0时消费完当前页才请求下一页，内存占用只与页大小有关
+ * <p>
+ * 非线程安全，使用完毕或提前结束时应关闭，关闭后丢弃已预读的页
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface RangeIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * 获取继续读取的起始主键，以该主键为startPrimaryKey重新查询可从第一个未被next()返回的行继续
+     *
+     * @return 起始主键，已读取到范围末尾时返回null
+     */
+    PrimaryKey nextStartPrimaryKey();
+
+    /**
+     * 以顺序流的形式消费剩余的行，关闭流时关闭迭代器
+     *
+     * @return 返回顺序流
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 停止读取并释放当前页，之后hasNext()返回false，nextStartPrimaryKey()仍返回关闭时的位置
+     */
+    @Override
+    void close();
+}
@@ -1,6 +1,10 @@
 package org.springframework.boot.autoconfigure.tablestore.model.internal;
 
 import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.FieldAccessor;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.FieldAccessors;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.ColumnCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.codec.ColumnCodecs;
 
 import java.lang.reflect.Field;
 
@@ -15,9 +19,31 @@ public class FieldInfo {
 
     private final Field field;
 
+    private final String columnName;
+
+    private final boolean primaryKey;
+
+    private final boolean readable;
+
+    private final boolean writable;
+
+    private final FieldAccessor accessor;
+
+    private final ColumnCodec codec;
+
     public FieldInfo(OtsColumn otsColumn, Field field) {
+        this(otsColumn, field, field.getName());
+    }
+
+    public FieldInfo(OtsColumn otsColumn, Field field, String columnName) {
         this.otsColumn = otsColumn;
         this.field = field;
+        this.columnName = columnName;
+        this.primaryKey = otsColumn != null && otsColumn.primaryKey();
+        this.readable = otsColumn == null || otsColumn.readable();
+        this.writable = otsColumn == null || otsColumn.writable();
+        this.accessor = FieldAccessors.of(field);
+        this.codec = ColumnCodecs.of(otsColumn, field.getType(), field.getGenericType());
     }
 
     public OtsColumn otsColumn() {
@@ -27,4 +53,28 @@ public class FieldInfo {
     public Field field() {
         return field;
     }
+
+    public String columnName() {
+        return columnName;
+    }
+
+    public boolean primaryKey() {
+        return primaryKey;
+    }
+
+    public boolean readable() {
+        return readable;
+    }
+
+    public boolean writable() {
+        return writable;
+    }
+
+    public FieldAccessor accessor() {
+        return accessor;
+    }
+
+    public ColumnCodec codec() {
+        return codec;
+    }
 }
@@ -0,0 +1,197 @@
+package org.springframework.boot.autoconfigure.tablestore.model.internal;
+
+import com.alicloud.openservices.tablestore.model.ColumnType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.instantiator.EntityInstantiator;
+import org.springframework.boot.autoconfigure.tablestore.utils.instantiator.EntityInstantiators;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 类与表之间的映射元数据，每个类只解析一次，构造完成后不可变，可在多线程间共享
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class TableMapping {
+
+    private final Class<?> clazz;
+
+    private final Table table;
+
+    private final Map<String, FieldInfo> fieldInfos;
+
+    private final List<FieldInfo> fieldInfoList;
+
+    private final Map<String, Integer> positions;
+
+    private final List<FieldInfo> primaryKeys;
+
+    private final List<FieldInfo> columns;
+
+    private final boolean dynamic;
+
+    private final Method addDynamicColumnMethod;
+
+    private final EntityInstantiator instantiator;
+
+    private final List<String> projection;
+
+    private final boolean trackChanges;
+
+    private TableMapping(Class<?> clazz) {
+        this.clazz = clazz;
+        this.table = clazz.getAnnotation(Table.class);
+        Pair<Map<String, FieldInfo>, Boolean> declaredFieldInfo = FieldUtils.getDeclaredFields(clazz);
+        this.fieldInfos = ImmutableMap.copyOf(declaredFieldInfo.getKey());
+        this.fieldInfoList = ImmutableList.copyOf(fieldInfos.values());
+        ImmutableMap.Builder<String, Integer> positionBuilder = ImmutableMap.builder();
+        for (int i = 0; i < fieldInfoList.size(); i++) {
+            positionBuilder.put(fieldInfoList.get(i).columnName(), i);
+        }
+        this.positions = positionBuilder.build();
+        ImmutableList.Builder<FieldInfo> primaryKeyBuilder = ImmutableList.builder();
+        ImmutableList.Builder<FieldInfo> columnBuilder = ImmutableList.builder();
+        for (FieldInfo fieldInfo : fieldInfos.values()) {
+            if (fieldInfo.primaryKey()) {
+                primaryKeyBuilder.add(fieldInfo);
+            } else {
+                columnBuilder.add(fieldInfo);
+            }
+        }
+        this.primaryKeys = primaryKeyBuilder.build();
+        this.columns = columnBuilder.build();
+        this.dynamic = declaredFieldInfo.getValue();
+        this.addDynamicColumnMethod = dynamic
+                ? FieldUtils.getMethod(clazz, "addDynamicColumn", String.class, ColumnType.class, Object.class)
+                : null;
+        this.instantiator = EntityInstantiators.of(clazz, fieldInfoList);
+        this.projection = dynamic ? null : projection(fieldInfoList);
+        this.trackChanges = table != null && table.trackChanges();
+    }
+
+    private static List<String> projection(List<FieldInfo> fieldInfoList) {
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (FieldInfo fieldInfo : fieldInfoList) {
+            if (fieldInfo.readable()) {
+                builder.add(fieldInfo.columnName());
+            }
+        }
+        List<String> columnNames = builder.build();
+        return columnNames.isEmpty() ? null : columnNames;
+    }
+
+    public static TableMapping of(Class<?> clazz) {
+        return new TableMapping(clazz);
+    }
+
+    public Class<?> clazz() {
+        return clazz;
+    }
+
+    public Table table() {
+        return table;
+    }
+
+    /**
+     * 获取映射的表名，未标注或表名为空时抛出异常
+     *
+     * @return 表名
+     */
+    public String tableName() {
+        if (table == null) {
+            throw new OtsException("the table annotation is absent");
+        }
+        if (StringUtils.isBlank(table.name())) {
+            throw new OtsException("the name of table annotation is absent");
+        }
+        return table.name();
+    }
+
+    /**
+     * 获取映射的索引名，未标注或索引名为空时抛出异常
+     *
+     * @return 索引名
+     */
+    public String indexName() {
+        tableName();
+        if (StringUtils.isBlank(table.index())) {
+            throw new OtsException("the index of table annotation is absent");
+        }
+        return table.index();
+    }
+
+    /**
+     * 以列名为键、按字段声明顺序排列的字段信息
+     *
+     * @return 字段信息
+     */
+    public Map<String, FieldInfo> fieldInfos() {
+        return fieldInfos;
+    }
+
+    public FieldInfo fieldInfo(String columnName) {
+        return fieldInfos.get(columnName);
+    }
+
+    /**
+     * 获取列对应的字段下标，与{@link #fieldInfos()}顺序一致
+     *
+     * @param columnName 列名
+     * @return 字段下标，不存在时返回-1
+     */
+    public int position(String columnName) {
+        Integer position = positions.get(columnName);
+        return position == null ? -1 : position;
+    }
+
+    public FieldInfo fieldInfo(int position) {
+        return fieldInfoList.get(position);
+    }
+
+    public int size() {
+        return fieldInfoList.size();
+    }
+
+    public List<FieldInfo> primaryKeys() {
+        return primaryKeys;
+    }
+
+    public List<FieldInfo> columns() {
+        return columns;
+    }
+
+    public boolean dynamic() {
+        return dynamic;
+    }
+
+    public Method addDynamicColumnMethod() {
+        return addDynamicColumnMethod;
+    }
+
+    public EntityInstantiator instantiator() {
+        return instantiator;
+    }
+
+    /**
+     * 获取可读字段对应的列名，用于未指定返回列时按类裁剪读取的列
+     *
+     * @return 列名集合，继承DynamicColumn的类需读取全部列，返回null
+     */
+    public List<String> projection() {
+        return projection;
+    }
+
+    public boolean trackChanges() {
+        return trackChanges;
+    }
+}
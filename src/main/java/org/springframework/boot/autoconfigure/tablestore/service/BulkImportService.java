@@ -0,0 +1,25 @@
+package org.springframework.boot.autoconfigure.tablestore.service;
+
+import org.springframework.boot.autoconfigure.tablestore.model.ImportQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.ImportReport;
+
+/**
+ * 从本地CSV、JSONL文件批量导入数据
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface BulkImportService {
+
+    /**
+     * 将文件中的每条记录转换为结果类后写入，已完成部分的字节偏移定期记录在检查点文件中，
+     * 中断后再次调用从检查点继续；检查点之后已写入的行会被重复写入
+     *
+     * @param query 导入请求
+     * @param clazz 结果类类型
+     * @param <T>   泛型
+     * @return 返回导入结果
+     */
+    <T> ImportReport importFile(ImportQuery query, Class<T> clazz);
+}
@@ -0,0 +1,109 @@
+package org.springframework.boot.autoconfigure.tablestore.service;
+
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.DeleteRowResponse;
+import com.alicloud.openservices.tablestore.model.PutRowResponse;
+import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 基于Reactor的响应式接口，类路径中存在reactor-core时自动注入
+ * <p>
+ * 返回的Mono、Flux在订阅时才发送请求
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface ReactiveTableStoreService {
+
+    /**
+     * 向TableStore中插入数据
+     *
+     * @param data      数据
+     * @param condition 条件
+     * @param <T>       泛型
+     * @return 返回Put响应
+     */
+    <T> Mono<PutRowResponse> put(T data, Condition condition);
+
+    /**
+     * 向TableStore中更新数据
+     *
+     * @param data       数据
+     * @param condition  条件
+     * @param deleteNull 是否删除为Null字段
+     * @param <T>        泛型
+     * @return 返回Update响应
+     */
+    <T> Mono<UpdateRowResponse> update(T data, Condition condition, boolean deleteNull);
+
+    /**
+     * 从TableStore中删除数据
+     *
+     * @param table     表名
+     * @param key       主键
+     * @param condition 条件
+     * @param <T>       泛型
+     * @return 返回Delete响应
+     */
+    <T> Mono<DeleteRowResponse> delete(String table, T key, Condition condition);
+
+    /**
+     * 从TableStore获取数据
+     *
+     * @param key         主键
+     * @param columnNames 需要返回的列集合
+     * @param clazz       泛型类型
+     * @param <T>         返回值泛型
+     * @param <U>         主键泛型
+     * @return 返回数据，行不存在时为空
+     */
+    <T, U> Mono<T> get(U key, List<String> columnNames, Class<T> clazz);
+
+    /**
+     * 向TableStore中批量插入数据，超过单次请求限制时拆分后并发发送
+     *
+     * @param dataPairs 数据集合
+     * @param <T>       泛型
+     * @return 返回BatchWrite响应
+     */
+    <T> Mono<BatchWriteRowResponse> batchPut(List<Pair<T, Condition>> dataPairs);
+
+    /**
+     * 向TableStore中批量更新数据，超过单次请求限制时拆分后并发发送
+     *
+     * @param dataPairs  数据集合
+     * @param deleteNull 是否删除为Null字段
+     * @param <T>        泛型
+     * @return 返回BatchWrite响应
+     */
+    <T> Mono<BatchWriteRowResponse> batchUpdate(List<Pair<T, Condition>> dataPairs, boolean deleteNull);
+
+    /**
+     * 从TableStore范围读取数据，下游请求数据且当前页已消费完时才读取下一页
+     *
+     * @param query range请求，limit大于0时为返回的总行数上限
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回数据流
+     */
+    <T> Flux<T> rangeGet(RangeGetQuery query, Class<T> clazz);
+
+    /**
+     * 从TableStore查询数据
+     *
+     * @param query 查询请求
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回数据流
+     */
+    <T> Flux<T> search(IndexSearchQuery query, Class<T> clazz);
+}
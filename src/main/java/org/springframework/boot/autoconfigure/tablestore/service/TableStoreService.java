@@ -7,16 +7,25 @@ import com.alicloud.openservices.tablestore.model.DeleteRowResponse;
 import com.alicloud.openservices.tablestore.model.DeleteTableResponse;
 import com.alicloud.openservices.tablestore.model.DescribeTableResponse;
 import com.alicloud.openservices.tablestore.model.PutRowResponse;
+import com.alicloud.openservices.tablestore.model.RowChange;
 import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.boot.autoconfigure.tablestore.model.BatchGetQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchWriteReply;
 import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchReply;
+import org.springframework.boot.autoconfigure.tablestore.model.LazyRow;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.ParallelScanQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.RangeGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeIterator;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Created on 2020/10/09
@@ -128,6 +137,18 @@ public interface TableStoreService {
      */
     <T, U> T get(U key, List<String> columnNames, Class<T> clazz);
 
+    /**
+     * 从TableStore获取数据，返回延迟解码的行视图
+     *
+     * @param key         主键
+     * @param columnNames 需要返回的列集合
+     * @param clazz       泛型类型
+     * @param <T>         主键泛型
+     * @param <U>         返回值泛型
+     * @return 返回行视图，行不存在时返回null
+     */
+    <T, U> LazyRow<T> getLazy(U key, List<String> columnNames, Class<T> clazz);
+
     /**
      * 向TableStore中批量插入数据
      *
@@ -147,6 +168,33 @@ public interface TableStoreService {
      */
     <T> BatchWriteRowResponse batchUpdate(List<Pair<T, Condition>> dataPairs, boolean deleteNull);
 
+    /**
+     * 向TableStore中批量插入数据，只重发因限流等可重试错误失败的行
+     *
+     * @param dataPairs 数据集合
+     * @param <T>       泛型
+     * @return 返回按输入顺序排列的成功数据与失败数据
+     */
+    <T> BatchWriteReply<T> batchPutWithRetry(List<Pair<T, Condition>> dataPairs);
+
+    /**
+     * 向TableStore中批量更新数据，只重发因限流等可重试错误失败的行
+     *
+     * @param dataPairs  数据集合
+     * @param deleteNull 是否删除为Null字段
+     * @param <T>        泛型
+     * @return 返回按输入顺序排列的成功数据与失败数据
+     */
+    <T> BatchWriteReply<T> batchUpdateWithRetry(List<Pair<T, Condition>> dataPairs, boolean deleteNull);
+
+    /**
+     * 向TableStore中批量写入已构造的行变更，拆分与重试规则同{@link #batchPutWithRetry(List)}
+     *
+     * @param rowChanges 行变更集合
+     * @return 返回按输入顺序排列的成功行变更与失败行变更
+     */
+    BatchWriteReply<RowChange> batchWriteWithRetry(List<RowChange> rowChanges);
+
     /**
      * 从TableStore范围读取数据
      *
@@ -157,6 +205,57 @@ public interface TableStoreService {
      */
     <T> RangeGetReply<T> rangeGet(RangeGetQuery query, Class<T> clazz);
 
+    /**
+     * 从TableStore范围读取数据，返回延迟解码的行视图
+     *
+     * @param query range请求
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回range响应
+     */
+    <T> RangeGetReply<LazyRow<T>> rangeGetLazy(RangeGetQuery query, Class<T> clazz);
+
+    /**
+     * 从TableStore范围读取数据，消费完当前页后才读取下一页，适用于不设limit的全表扫描
+     *
+     * @param query range请求
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回范围读取迭代器
+     */
+    <T> RangeIterator<T> rangeIterator(RangeGetQuery query, Class<T> clazz);
+
+    /**
+     * 从TableStore范围读取数据，读取方式同{@link #rangeIterator(RangeGetQuery, Class)}，使用完毕应关闭流
+     *
+     * @param query range请求
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回顺序流
+     */
+    <T> Stream<T> rangeStream(RangeGetQuery query, Class<T> clazz);
+
+    /**
+     * 按ComputeSplitsBySize的分片并发扫描全表，行在扫描线程中并发回调，全部扫描完成后返回；
+     * 要求按主键顺序时在调用线程中依次回调
+     *
+     * @param query    扫描请求
+     * @param clazz    泛型类型
+     * @param consumer 行回调，无序扫描时需线程安全
+     * @param <T>      泛型
+     */
+    <T> void parallelScan(ParallelScanQuery query, Class<T> clazz, Consumer<T> consumer);
+
+    /**
+     * 按ComputeSplitsBySize的分片并发扫描全表，以流的形式在调用线程中消费，使用完毕应关闭流
+     *
+     * @param query 扫描请求
+     * @param clazz 泛型类型
+     * @param <T>   泛型
+     * @return 返回顺序流，query.ordered()为true时按主键顺序
+     */
+    <T> Stream<T> parallelStream(ParallelScanQuery query, Class<T> clazz);
+
     /**
      * 从TableStore批量读取数据
      *
@@ -167,6 +266,14 @@ public interface TableStoreService {
      */
     <T> BatchGetReply<T> batchGet(BatchGetQuery query, Class<T> clazz);
 
+    /**
+     * 在同一个请求中从多张表批量读取数据，主键总数超过单个请求上限时拆分后并发执行，各结果类的读取规则同{@link #batchGet(BatchGetQuery, Class)}
+     *
+     * @param query 多表batch请求
+     * @return 返回按结果类分组的batch响应
+     */
+    MultiBatchGetReply batchGet(MultiBatchGetQuery query);
+
     /**
      * 从TableStore查询数据
      *
@@ -0,0 +1,508 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.parser.ParserConfig;
+import com.alibaba.fastjson.util.TypeUtils;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowExistenceExpectation;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.enums.ImportFormat;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchWriteReply;
+import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
+import org.springframework.boot.autoconfigure.tablestore.model.ImportQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.ImportReport;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.service.BulkImportService;
+import org.springframework.boot.autoconfigure.tablestore.service.TableStoreService;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 调用线程顺序读取文件并按batch.maxRows切分批次，批次的解析、编码与写入在独立的线程池中并发执行，
+ * 同时执行的批次数由parallelism限制，读取领先写入最多一倍的批次
+ * <p>
+ * 批次可能乱序完成，检查点只推进到连续完成的最后一个批次末尾的字节偏移，恢复时从该偏移继续读取
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class BulkImportServiceImpl implements BulkImportService {
+
+    /**
+     * 检查点最短写入间隔
+     */
+    private static final long CHECKPOINT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Condition IGNORE = new Condition(RowExistenceExpectation.IGNORE);
+
+    private final TableStoreService tableStoreService;
+
+    private final TableStoreProperties.Batch batch;
+
+    public BulkImportServiceImpl(TableStoreService tableStoreService, TableStoreProperties properties) {
+        this.tableStoreService = tableStoreService;
+        this.batch = properties.getBatch();
+    }
+
+    @Override
+    public <T> ImportReport importFile(ImportQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        Preconditions.checkNotNull(query.path(), "path must not be null");
+        Preconditions.checkNotNull(clazz);
+        Preconditions.checkArgument(Files.isRegularFile(query.path()), "file not found: %s", query.path());
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        // 未标注表名时直接失败，避免每行都被拒绝
+        mapping.tableName();
+
+        boolean csv = query.format() == ImportFormat.CSV;
+        int parallelism = query.parallelism() > 0 ? query.parallelism() : batch.getParallelism();
+        int window = parallelism * 2;
+        Progress progress = new Progress(query);
+        long resumedFrom = progress.offset;
+        long start = System.nanoTime();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tablestore-import-");
+        threadFactory.setDaemon(true);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, threadFactory);
+        Semaphore permits = new Semaphore(window);
+        try (RecordReader reader = new RecordReader(query.path(), csv)) {
+            List<String> header = null;
+            if (csv) {
+                byte[] first = reader.next();
+                if (first == null) {
+                    return progress.report(resumedFrom, start);
+                }
+                header = Csv.parse(new String(first, StandardCharsets.UTF_8), query.delimiter());
+                resumedFrom = Math.max(resumedFrom, reader.position());
+            }
+            reader.seek(resumedFrom);
+            progress.offset = resumedFrom;
+            Parser<T> parser = new Parser<>(clazz, mapping, header, query.delimiter());
+            Condition condition = query.condition() == null ? IGNORE : query.condition();
+
+            long seq = 0;
+            while (progress.failure == null) {
+                List<byte[]> records = new ArrayList<>(batch.getMaxRows());
+                byte[] record;
+                while (records.size() < batch.getMaxRows() && (record = reader.next()) != null) {
+                    records.add(record);
+                }
+                if (records.isEmpty()) {
+                    break;
+                }
+                permits.acquire();
+                long chunkSeq = seq++;
+                long end = reader.position();
+                workers.execute(() -> {
+                    try {
+                        // 已中止时不再发送排队中的批次，检查点不会越过未完成的批次
+                        if (progress.failure != null) {
+                            return;
+                        }
+                        write(chunkSeq, end, records, parser, condition, progress);
+                    } catch (Throwable e) {
+                        progress.fail(e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            progress.fail(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail(e);
+        } finally {
+            // 读取失败或被中断时仍有批次在写入，等它们结束后再保存检查点，返回后不会再有写入
+            workers.shutdown();
+            Uninterruptibles.awaitTerminationUninterruptibly(workers);
+        }
+        progress.persist();
+        if (progress.failure != null) {
+            throw new OtsException("import aborted, file: %s, offset: %d", progress.failure, query.path(), progress.offset);
+        }
+        return progress.report(resumedFrom, start);
+    }
+
+    private <T> void write(long seq, long end, List<byte[]> records, Parser<T> parser, Condition condition, Progress progress) {
+        List<RowChange> rowChanges = new ArrayList<>(records.size());
+        long rejected = 0;
+        for (byte[] record : records) {
+            try {
+                RowPutChange rowPutChange = OtsUtils.rowPutChange(parser.parse(new String(record, StandardCharsets.UTF_8)));
+                rowPutChange.setCondition(condition);
+                rowChanges.add(rowPutChange);
+            } catch (RuntimeException e) {
+                rejected++;
+            }
+        }
+        long rows = 0;
+        if (!rowChanges.isEmpty()) {
+            BatchWriteReply<RowChange> reply = tableStoreService.batchWriteWithRetry(rowChanges);
+            rows = reply.records().size();
+            rejected += reply.errors().size();
+        }
+        progress.complete(seq, end, rows, rejected);
+    }
+
+    /**
+     * 已完成部分的偏移与计数，按批次序号顺序推进
+     */
+    private static final class Progress {
+
+        private final Path checkpoint;
+
+        private final long maxRejected;
+
+        private final TreeMap<Long, long[]> completed = new TreeMap<>();
+
+        private long next;
+
+        private long offset;
+
+        private long rows;
+
+        private long rejected;
+
+        /**
+         * 本次导入处理的行数
+         */
+        private long processed;
+
+        private long persistedAt = System.nanoTime();
+
+        private volatile Throwable failure;
+
+        private Progress(ImportQuery query) {
+            this.checkpoint = query.checkpoint();
+            this.maxRejected = query.maxRejected();
+            if (Files.isRegularFile(checkpoint)) {
+                Properties properties = new Properties();
+                try (InputStream in = Files.newInputStream(checkpoint)) {
+                    properties.load(in);
+                } catch (IOException e) {
+                    throw new OtsException("read checkpoint error, file: %s", e, checkpoint);
+                }
+                this.offset = Long.parseLong(properties.getProperty("offset", "0"));
+                this.rows = Long.parseLong(properties.getProperty("rows", "0"));
+                this.rejected = Long.parseLong(properties.getProperty("rejected", "0"));
+            }
+        }
+
+        private synchronized void complete(long seq, long end, long rows, long rejected) {
+            processed += rows + rejected;
+            completed.put(seq, new long[]{end, rows, rejected});
+            long[] chunk;
+            while ((chunk = completed.remove(next)) != null) {
+                this.offset = chunk[0];
+                this.rows += chunk[1];
+                this.rejected += chunk[2];
+                next++;
+            }
+            if (maxRejected >= 0 && this.rejected > maxRejected) {
+                fail(new OtsException("rejected rows exceed %d", maxRejected));
+            }
+            if (System.nanoTime() - persistedAt >= CHECKPOINT_INTERVAL) {
+                persist();
+            }
+        }
+
+        private synchronized void fail(Throwable throwable) {
+            if (failure == null) {
+                failure = throwable;
+            }
+        }
+
+        /**
+         * 先写临时文件再原子替换，中断时检查点不会损坏
+         */
+        private synchronized void persist() {
+            persistedAt = System.nanoTime();
+            Properties properties = new Properties();
+            properties.setProperty("offset", String.valueOf(offset));
+            properties.setProperty("rows", String.valueOf(rows));
+            properties.setProperty("rejected", String.valueOf(rejected));
+            Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    properties.store(out, null);
+                }
+                try {
+                    Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                fail(new OtsException("write checkpoint error, file: %s", e, checkpoint));
+            }
+        }
+
+        private synchronized ImportReport report(long resumedFrom, long start) {
+            ImportReport report = new ImportReport();
+            report.rows(rows);
+            report.rejected(rejected);
+            report.resumedFrom(resumedFrom);
+            report.offset(offset);
+            report.elapsed(Duration.ofNanos(System.nanoTime() - start));
+            report.elapsedRows(processed);
+            return report;
+        }
+    }
+
+    /**
+     * 按字节读取记录并记录偏移：JSONL以换行分隔并跳过空行，CSV引号内的换行不作为记录结束
+     */
+    private static final class RecordReader implements Closeable {
+
+        private final FileChannel channel;
+
+        private final boolean quoted;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+        private byte[] record = new byte[256];
+
+        private int length;
+
+        private long position;
+
+        private RecordReader(Path path, boolean quoted) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.quoted = quoted;
+            this.buffer.flip();
+        }
+
+        private void seek(long offset) throws IOException {
+            channel.position(offset);
+            position = offset;
+            buffer.clear().flip();
+        }
+
+        private long position() {
+            return position;
+        }
+
+        /**
+         * @return 去掉行尾换行的记录，文件结束时返回null
+         */
+        private byte[] next() throws IOException {
+            length = 0;
+            boolean inQuotes = false;
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    int read = channel.read(buffer);
+                    buffer.flip();
+                    if (read <= 0) {
+                        return length == 0 ? null : finish();
+                    }
+                }
+                byte b = buffer.get();
+                position++;
+                if (b == '\n' && !inQuotes) {
+                    if (length == 0 || (length == 1 && record[0] == '\r')) {
+                        length = 0;
+                        continue;
+                    }
+                    return finish();
+                }
+                if (quoted && b == '"') {
+                    inQuotes = !inQuotes;
+                }
+                if (length == record.length) {
+                    record = Arrays.copyOf(record, length * 2);
+                }
+                record[length++] = b;
+            }
+        }
+
+        private byte[] finish() {
+            int end = length > 0 && record[length - 1] == '\r' ? length - 1 : length;
+            return Arrays.copyOf(record, end);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * 将一条记录转换为结果类，CSV按表头对应列名，JSONL按顶层字段名对应列名
+     */
+    private static final class Parser<T> {
+
+        private final Class<T> clazz;
+
+        private final TableMapping mapping;
+
+        private final List<String> header;
+
+        private final char delimiter;
+
+        private Parser(Class<T> clazz, TableMapping mapping, List<String> header, char delimiter) {
+            this.clazz = clazz;
+            this.mapping = mapping;
+            this.header = header;
+            this.delimiter = delimiter;
+        }
+
+        private T parse(String record) {
+            Map<String, Object> columns;
+            if (header == null) {
+                columns = JSON.parseObject(record);
+            } else {
+                List<String> fields = Csv.parse(record, delimiter);
+                if (fields.size() != header.size()) {
+                    throw new OtsException("csv field count mismatch, expect: %d, actual: %d", header.size(), fields.size());
+                }
+                columns = new LinkedHashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(header.get(i), fields.get(i));
+                }
+            }
+            Object[] values = new Object[mapping.size()];
+            Map<String, Object> dynamicColumns = null;
+            for (Map.Entry<String, Object> entry : columns.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                int position = mapping.position(entry.getKey());
+                if (position >= 0) {
+                    values[position] = convert(entry.getValue(), mapping.fieldInfo(position).field());
+                } else if (mapping.dynamic()) {
+                    if (dynamicColumns == null) {
+                        dynamicColumns = new HashMap<>();
+                    }
+                    dynamicColumns.put(entry.getKey(), dynamicValue(entry.getValue()));
+                }
+            }
+            T data;
+            if (mapping.instantiator().requiresValues()) {
+                data = clazz.cast(mapping.instantiator().newInstance(values));
+            } else {
+                data = clazz.cast(mapping.instantiator().newInstance());
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        mapping.fieldInfo(i).accessor().set(data, values[i]);
+                    }
+                }
+            }
+            if (dynamicColumns != null && data instanceof DynamicColumn) {
+                dynamicColumns.forEach(((DynamicColumn) data)::addDynamicColumn);
+            }
+            return data;
+        }
+
+        /**
+         * 集合、Map与对象类型的字段在CSV中为JSON文本，先解析再转换
+         */
+        private static Object convert(Object value, Field field) {
+            Class<?> type = field.getType();
+            if (value instanceof String && type != byte[].class
+                    && (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+                    || type.isArray() || !BeanUtils.isSimpleValueType(type))) {
+                value = JSON.parse((String) value);
+            }
+            return TypeUtils.cast(value, field.getGenericType(), ParserConfig.getGlobalInstance());
+        }
+
+        /**
+         * 动态列只支持TableStore的基本类型，嵌套对象保存为JSON文本
+         */
+        private static Object dynamicValue(Object value) {
+            if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).doubleValue();
+            }
+            if (value instanceof BigInteger) {
+                return ((BigInteger) value).longValue();
+            }
+            if (value instanceof JSONObject || value instanceof JSONArray) {
+                return JSON.toJSONString(value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * RFC 4180，引号内的分隔符、换行与双写引号按字面值处理，未加引号的空字段为null
+     */
+    private static final class Csv {
+
+        private static List<String> parse(String record, char delimiter) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean quoted = false;
+            for (int i = 0; i < record.length(); i++) {
+                char c = record.charAt(i);
+                if (inQuotes) {
+                    if (c == '"') {
+                        if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            inQuotes = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                    quoted = true;
+                } else if (c == delimiter) {
+                    fields.add(quoted || field.length() > 0 ? field.toString() : null);
+                    field.setLength(0);
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            }
+            if (inQuotes) {
+                throw new OtsException("unterminated quoted field");
+            }
+            fields.add(quoted || field.length() > 0 ? field.toString() : null);
+            return fields;
+        }
+    }
+}
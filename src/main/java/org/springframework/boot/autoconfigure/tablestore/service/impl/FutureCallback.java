@@ -0,0 +1,37 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.TableStoreCallback;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * 将AsyncClient的回调转换为CompletableFuture
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class FutureCallback<Q, R> extends CompletableFuture<R> implements TableStoreCallback<Q, R> {
+
+    /**
+     * @param request 请求
+     * @param invoker AsyncClient的对应方法，如asyncClient::getRow
+     * @return 请求完成时结束的Future
+     */
+    static <Q, R> CompletableFuture<R> execute(Q request, BiConsumer<Q, TableStoreCallback<Q, R>> invoker) {
+        FutureCallback<Q, R> callback = new FutureCallback<>();
+        invoker.accept(request, callback);
+        return callback;
+    }
+
+    @Override
+    public void onCompleted(Q request, R response) {
+        complete(response);
+    }
+
+    @Override
+    public void onFailed(Q request, Exception ex) {
+        completeExceptionally(ex);
+    }
+}
@@ -0,0 +1,306 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.GetRangeResponse;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.Row;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeIterator;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 只持有当前页与预读页的原始行，next()时才转换为结果，转换结果为null的行被跳过
+ * <p>
+ * 开启预读时，每取得一页就在executor中请求其后的页，直到预读页数达到prefetch或预读字节数达到上限；
+ * 下一页的起始主键来自上一页的响应，同一时刻至多一个请求在执行，不占用等待中的线程；
+ * 调用线程需要的页还排在executor队列中时由调用线程直接读取，在executor的线程中使用时也不会因线程耗尽而死锁
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class PagedRangeIterator<R> implements RangeIterator<R> {
+
+    /**
+     * 单次GetRange返回的最大行数
+     */
+    static final int PAGE_SIZE = 5000;
+
+    private final BiFunction<PrimaryKey, Integer, GetRangeResponse> fetcher;
+
+    private final Function<Row, R> mapper;
+
+    private final int limit;
+
+    private final Executor executor;
+
+    private final int prefetch;
+
+    private final long maxBufferedBytes;
+
+    private List<Row> rows = Collections.emptyList();
+
+    private int index;
+
+    /**
+     * 当前页之后的起始主键，没有下一页时为null
+     */
+    private PrimaryKey next;
+
+    /**
+     * 已转换但还未被next()返回的结果及其主键
+     */
+    private R record;
+
+    private PrimaryKey recordKey;
+
+    /**
+     * 以下为读取状态，由this保护
+     */
+    private final ArrayDeque<Page> pages = new ArrayDeque<>();
+
+    private PrimaryKey fetchStart;
+
+    private int fetched;
+
+    private boolean fetching;
+
+    /**
+     * 预读请求已提交但还未被executor执行
+     */
+    private boolean queued;
+
+    private long bufferedBytes;
+
+    private Throwable failure;
+
+    private volatile boolean closed;
+
+    /**
+     * @param start    起始主键
+     * @param limit    最多读取的行数，小于等于0时读取到范围末尾
+     * @param mapper   行转换
+     * @param fetcher  以起始主键和本页行数（0表示不限制）读取一页
+     * @param executor 执行预读请求
+     * @param scan     预读配置
+     */
+    PagedRangeIterator(PrimaryKey start, int limit, Function<Row, R> mapper, BiFunction<PrimaryKey, Integer, GetRangeResponse> fetcher,
+                       Executor executor, TableStoreProperties.Scan scan) {
+        this.next = start;
+        this.fetchStart = start;
+        this.limit = limit;
+        this.mapper = mapper;
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.prefetch = scan.getPrefetch();
+        this.maxBufferedBytes = scan.getMaxBufferedBytes();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (record == null) {
+            if (closed) {
+                return false;
+            }
+            if (index < rows.size()) {
+                Row row = rows.get(index++);
+                record = mapper.apply(row);
+                recordKey = row.getPrimaryKey();
+                continue;
+            }
+            Page page = take();
+            if (page == null) {
+                return false;
+            }
+            rows = page.rows;
+            index = 0;
+            next = page.next;
+        }
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        R result = record;
+        record = null;
+        recordKey = null;
+        return result;
+    }
+
+    @Override
+    public PrimaryKey nextStartPrimaryKey() {
+        if (record != null) {
+            return recordKey;
+        }
+        if (index < rows.size()) {
+            return rows.get(index).getPrimaryKey();
+        }
+        return next;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        next = nextStartPrimaryKey();
+        closed = true;
+        rows = Collections.emptyList();
+        index = 0;
+        record = null;
+        recordKey = null;
+        synchronized (this) {
+            pages.clear();
+            bufferedBytes = 0;
+        }
+    }
+
+    /**
+     * @return 下一页，没有更多页时返回null
+     */
+    private synchronized Page take() {
+        if (prefetch <= 0) {
+            return exhausted() ? null : accept(fetch(fetchStart, pageSize()));
+        }
+        while (true) {
+            Page page = pages.poll();
+            if (page != null) {
+                bufferedBytes -= page.bytes;
+                prefetch();
+                return page;
+            }
+            if (failure != null) {
+                throw failure instanceof RuntimeException ? (RuntimeException) failure : new OtsException("range get error", failure);
+            }
+            if (queued) {
+                // 预读请求还未开始执行，由调用线程读取，不等待executor
+                queued = false;
+                fetching = false;
+                return accept(fetch(fetchStart, pageSize()));
+            }
+            if (!fetching) {
+                if (exhausted()) {
+                    return null;
+                }
+                prefetch();
+                if (!fetching && pages.isEmpty() && failure == null) {
+                    // executor拒绝执行时在调用线程读取
+                    return accept(fetch(fetchStart, pageSize()));
+                }
+                continue;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OtsException("range get interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * 持有this时调用
+     */
+    private void prefetch() {
+        if (fetching || closed || failure != null || exhausted() || pages.size() >= prefetch || bufferedBytes >= maxBufferedBytes) {
+            return;
+        }
+        fetching = true;
+        queued = true;
+        PrimaryKey start = fetchStart;
+        int pageSize = pageSize();
+        try {
+            executor.execute(() -> complete(start, pageSize));
+        } catch (RejectedExecutionException e) {
+            fetching = false;
+            queued = false;
+        }
+    }
+
+    private void complete(PrimaryKey start, int pageSize) {
+        synchronized (this) {
+            if (!queued || start != fetchStart) {
+                // 已由调用线程读取
+                return;
+            }
+            queued = false;
+        }
+        Page page = null;
+        Throwable throwable = null;
+        try {
+            page = fetch(start, pageSize);
+        } catch (Throwable e) {
+            throwable = e;
+        }
+        synchronized (this) {
+            fetching = false;
+            if (throwable != null) {
+                failure = throwable;
+            } else if (!closed) {
+                pages.add(accept(page));
+                bufferedBytes += page.bytes;
+                prefetch();
+            }
+            notifyAll();
+        }
+    }
+
+    private Page fetch(PrimaryKey start, int pageSize) {
+        GetRangeResponse response = fetcher.apply(start, pageSize);
+        if (response == null || response.getRows() == null) {
+            return new Page(Collections.emptyList(), null, 0);
+        }
+        long bytes = 0;
+        for (Row row : response.getRows()) {
+            bytes += row.getPrimaryKey().getDataSize();
+            for (Column column : row.getColumns()) {
+                bytes += column.getDataSize();
+            }
+        }
+        return new Page(response.getRows(), response.getNextStartPrimaryKey(), bytes);
+    }
+
+    /**
+     * 推进读取位置，持有this时调用
+     */
+    private Page accept(Page page) {
+        fetchStart = page.next;
+        fetched += page.rows.size();
+        return page;
+    }
+
+    private boolean exhausted() {
+        return fetchStart == null || (limit > 0 && fetched >= limit);
+    }
+
+    private int pageSize() {
+        return limit > 0 ? Math.min(limit - fetched, PAGE_SIZE) : 0;
+    }
+
+    private static final class Page {
+
+        private final List<Row> rows;
+
+        private final PrimaryKey next;
+
+        private final long bytes;
+
+        private Page(List<Row> rows, PrimaryKey next, long bytes) {
+            this.rows = rows;
+            this.next = next;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.AsyncClientInterface;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.DeleteRowResponse;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PutRowResponse;
+import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchReply;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.service.ReactiveTableStoreService;
+import org.springframework.boot.autoconfigure.tablestore.service.TableStoreAsyncService;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 单行与批量操作委托给{@link TableStoreAsyncServiceImpl}，范围读取按页请求GetRange
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ReactiveTableStoreServiceImpl implements ReactiveTableStoreService {
+
+    /**
+     * 范围读取单页的最大行数
+     */
+    private static final int PAGE_SIZE = 500;
+
+    private final AsyncClientInterface asyncClient;
+
+    private final TableStoreAsyncService asyncService;
+
+    private final boolean projection;
+
+    private final Executor executor;
+
+    public ReactiveTableStoreServiceImpl(AsyncClientInterface asyncClient, TableStoreProperties properties, Executor executor) {
+        this.asyncClient = asyncClient;
+        this.asyncService = new TableStoreAsyncServiceImpl(asyncClient, properties, executor);
+        this.projection = properties.isProjection();
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> Mono<PutRowResponse> put(T data, Condition condition) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.put(data, condition)));
+    }
+
+    @Override
+    public <T> Mono<UpdateRowResponse> update(T data, Condition condition, boolean deleteNull) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.update(data, condition, deleteNull)));
+    }
+
+    @Override
+    public <T> Mono<DeleteRowResponse> delete(String table, T key, Condition condition) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.delete(table, key, condition)));
+    }
+
+    @Override
+    public <T, U> Mono<T> get(U key, List<String> columnNames, Class<T> clazz) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.get(key, columnNames, clazz)));
+    }
+
+    @Override
+    public <T> Mono<BatchWriteRowResponse> batchPut(List<Pair<T, Condition>> dataPairs) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.batchPut(dataPairs)));
+    }
+
+    @Override
+    public <T> Mono<BatchWriteRowResponse> batchUpdate(List<Pair<T, Condition>> dataPairs, boolean deleteNull) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.batchUpdate(dataPairs, deleteNull)));
+    }
+
+    /**
+     * 每页在被请求时才读取，下游消费当前页期间至多预读下一页
+     */
+    @Override
+    public <T> Flux<T> rangeGet(RangeGetQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        List<String> columnNames = TableStoreRequests.columnsToGet(query.columnNames(), mapping, projection);
+        Flux<T> records = page(query, clazz, mapping.tableName(), columnNames, query.startPrimaryKey(), 0)
+                .expand(page -> page.next == null || (query.limit() > 0 && page.fetched >= query.limit()) ? Mono.empty()
+                        : page(query, clazz, mapping.tableName(), columnNames, page.next, page.fetched))
+                .flatMapIterable(page -> page.records, 1);
+        return query.limit() > 0 ? records.take(query.limit()) : records;
+    }
+
+    @Override
+    public <T> Flux<T> search(IndexSearchQuery query, Class<T> clazz) {
+        return Mono.defer(() -> Mono.fromFuture(asyncService.search(query, clazz)))
+                .flatMapIterable(IndexSearchReply::records);
+    }
+
+    /**
+     * @param fetched 之前各页已读取的行数，用于计算本页还需读取的行数
+     */
+    private <T> Mono<Page<T>> page(RangeGetQuery query, Class<T> clazz, String tableName, List<String> columnNames,
+                                   PrimaryKey start, int fetched) {
+        int pageSize = query.limit() > 0 ? Math.min(query.limit() - fetched, PAGE_SIZE) : PAGE_SIZE;
+        return Mono.defer(() -> Mono.fromFuture(FutureCallback.execute(
+                TableStoreRequests.getRangeRequest(tableName, start, query.endPrimaryKey(), columnNames, query.direction(), pageSize),
+                asyncClient::getRange)
+                .thenApplyAsync(response -> {
+                    if (response == null || response.getRows() == null) {
+                        return new Page<T>(Collections.emptyList(), null, fetched);
+                    }
+                    List<T> records = response.getRows().stream()
+                            .map(row -> OtsUtils.build(row, clazz))
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+                    return new Page<>(records, response.getNextStartPrimaryKey(), fetched + response.getRows().size());
+                }, executor)));
+    }
+
+    private static final class Page<T> {
+
+        private final List<T> records;
+
+        private final PrimaryKey next;
+
+        private final int fetched;
+
+        private Page(List<T> records, PrimaryKey next, int fetched) {
+            this.records = records;
+            this.next = next;
+            this.fetched = fetched;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeIterator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 在独立线程池中并发扫描各分片，每个线程扫描完一个分片后领取下一个未扫描的分片，先完成的线程自动分担剩余分片
+ * <ul>
+ *     <li>回调方式：行在扫描线程中交给回调，不缓冲</li>
+ *     <li>无序流：各线程写入共享的有界队列，调用线程按到达顺序消费</li>
+ *     <li>有序流：每个分片单独缓冲，调用线程按分片顺序消费；领先调用线程的分片数不超过线程数的2倍，缓冲行数因此有上限</li>
+ * </ul>
+ * 阻塞的写入与读取按固定间隔检查关闭与失败状态，关闭流或任一分片失败后其余线程尽快停止
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class SplitScanner<T> {
+
+    private static final Object END = new Object();
+
+    private static final long POLL_MILLIS = 100;
+
+    private final List<RangeGetQuery> splits;
+
+    private final Function<RangeGetQuery, RangeIterator<T>> opener;
+
+    private final int parallelism;
+
+    private final int bufferSize;
+
+    private final AtomicInteger nextSplit = new AtomicInteger();
+
+    private volatile Throwable failure;
+
+    private volatile boolean closed;
+
+    /**
+     * @param splits      按主键顺序排列的分片
+     * @param opener      打开分片的范围读取
+     * @param parallelism 扫描线程数
+     * @param bufferSize  以流返回时每个线程最多缓冲的行数
+     */
+    SplitScanner(List<RangeGetQuery> splits, Function<RangeGetQuery, RangeIterator<T>> opener, int parallelism, int bufferSize) {
+        this.splits = splits;
+        this.opener = opener;
+        this.parallelism = Math.max(1, Math.min(parallelism, splits.size()));
+        this.bufferSize = Math.max(1, bufferSize);
+    }
+
+    /**
+     * 在扫描线程中并发回调，全部分片扫描完成后返回
+     */
+    void forEach(Consumer<? super T> consumer) {
+        ExecutorService pool = newPool();
+        List<Future<?>> futures = new ArrayList<>(parallelism);
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(pool.submit(() -> {
+                    int split;
+                    while (!stopped() && (split = nextSplit.getAndIncrement()) < splits.size()) {
+                        try (RangeIterator<T> iterator = opener.apply(splits.get(split))) {
+                            while (!stopped() && iterator.hasNext()) {
+                                consumer.accept(iterator.next());
+                            }
+                        } catch (Throwable e) {
+                            fail(e);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (ExecutionException e) {
+            fail(e.getCause());
+        } finally {
+            closed = true;
+            pool.shutdown();
+        }
+        checkFailure();
+    }
+
+    /**
+     * @param ordered 是否按分片顺序返回
+     */
+    Stream<T> stream(boolean ordered) {
+        Buffer buffer = ordered ? new OrderedBuffer() : new SharedBuffer();
+        ExecutorService pool = newPool();
+        for (int i = 0; i < parallelism; i++) {
+            pool.execute(() -> produce(buffer));
+        }
+        pool.shutdown();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(buffer, Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0)), false)
+                .onClose(() -> closed = true);
+    }
+
+    private void produce(Buffer buffer) {
+        try {
+            while (!stopped() && buffer.acquire()) {
+                int split = nextSplit.getAndIncrement();
+                if (split >= splits.size()) {
+                    buffer.release();
+                    break;
+                }
+                try (RangeIterator<T> iterator = opener.apply(splits.get(split))) {
+                    while (iterator.hasNext()) {
+                        if (!buffer.put(split, iterator.next())) {
+                            return;
+                        }
+                    }
+                }
+                if (!buffer.put(split, END)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            buffer.producerDone();
+        }
+    }
+
+    private ExecutorService newPool() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tablestore-scan-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    private boolean stopped() {
+        return closed || failure != null;
+    }
+
+    private synchronized void fail(Throwable throwable) {
+        if (failure == null) {
+            failure = throwable;
+        }
+    }
+
+    private void checkFailure() {
+        Throwable throwable = failure;
+        if (throwable != null) {
+            throw throwable instanceof RuntimeException ? (RuntimeException) throwable : new OtsException("parallel scan error", throwable);
+        }
+    }
+
+    /**
+     * 在阻塞队列上等待，停止时返回false
+     */
+    private boolean offer(BlockingQueue<Object> queue, Object item) throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (stopped()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object poll(BlockingQueue<Object> queue) {
+        try {
+            Object item;
+            while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                checkFailure();
+                if (closed) {
+                    return END;
+                }
+            }
+            return item;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OtsException("parallel scan interrupted", e);
+        }
+    }
+
+    /**
+     * 扫描线程与调用线程之间的缓冲，迭代器只由调用线程使用
+     */
+    private abstract class Buffer implements Iterator<T> {
+
+        private Object pending;
+
+        private boolean finished;
+
+        /**
+         * 领取分片前调用
+         */
+        boolean acquire() throws InterruptedException {
+            return true;
+        }
+
+        void release() {
+        }
+
+        abstract boolean put(int split, Object item) throws InterruptedException;
+
+        void producerDone() {
+        }
+
+        /**
+         * @return 下一行，没有更多行时返回END
+         */
+        abstract Object take();
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null && !finished) {
+                checkFailure();
+                Object item = closed ? END : take();
+                if (item == END) {
+                    finished = true;
+                    checkFailure();
+                } else {
+                    pending = item;
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object item = pending;
+            pending = null;
+            return (T) item;
+        }
+    }
+
+    /**
+     * 所有线程共用一个队列，最后一个线程结束时写入结束标记
+     */
+    private final class SharedBuffer extends Buffer {
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize * parallelism);
+
+        private final AtomicInteger producers = new AtomicInteger(parallelism);
+
+        @Override
+        boolean put(int split, Object item) throws InterruptedException {
+            return item == END || offer(queue, item);
+        }
+
+        @Override
+        void producerDone() {
+            if (producers.decrementAndGet() == 0) {
+                try {
+                    offer(queue, END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        Object take() {
+            return poll(queue);
+        }
+    }
+
+    /**
+     * 每个分片一个队列，分片以结束标记结尾；调用线程消费完一个分片后才允许领取新的分片
+     */
+    private final class OrderedBuffer extends Buffer {
+
+        private final AtomicReferenceArray<BlockingQueue<Object>> queues = new AtomicReferenceArray<>(splits.size());
+
+        private final Semaphore window = new Semaphore(parallelism * 2);
+
+        private int current;
+
+        @Override
+        boolean acquire() throws InterruptedException {
+            while (!window.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (stopped()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void release() {
+            window.release();
+        }
+
+        @Override
+        boolean put(int split, Object item) throws InterruptedException {
+            return offer(queue(split), item);
+        }
+
+        @Override
+        Object take() {
+            while (current < splits.size()) {
+                Object item = poll(queue(current));
+                if (item != END) {
+                    return item;
+                }
+                if (closed) {
+                    return END;
+                }
+                queues.set(current++, null);
+                window.release();
+            }
+            return END;
+        }
+
+        private BlockingQueue<Object> queue(int split) {
+            BlockingQueue<Object> queue = queues.get(split);
+            if (queue == null) {
+                queues.compareAndSet(split, null, new ArrayBlockingQueue<>(bufferSize));
+                queue = queues.get(split);
+            }
+            return queue;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.AsyncClientInterface;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.DeleteRowRequest;
+import com.alicloud.openservices.tablestore.model.DeleteRowResponse;
+import com.alicloud.openservices.tablestore.model.Error;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PutRowRequest;
+import com.alicloud.openservices.tablestore.model.PutRowResponse;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowDeleteChange;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.alicloud.openservices.tablestore.model.UpdateRowRequest;
+import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchReply;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.service.TableStoreAsyncService;
+import org.springframework.boot.autoconfigure.tablestore.utils.ChangeTracker;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class TableStoreAsyncServiceImpl implements TableStoreAsyncService {
+
+    private final AsyncClientInterface asyncClient;
+
+    private final boolean projection;
+
+    private final TableStoreProperties.Batch batch;
+
+    private final Executor executor;
+
+    /**
+     * @param executor 执行结果转换，避免占用SDK回调线程
+     */
+    public TableStoreAsyncServiceImpl(AsyncClientInterface asyncClient, TableStoreProperties properties, Executor executor) {
+        Preconditions.checkArgument(properties.getBatch().getMaxRows() > 0, "batch max rows must be positive");
+        this.asyncClient = asyncClient;
+        this.projection = properties.isProjection();
+        this.batch = properties.getBatch();
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> CompletableFuture<PutRowResponse> put(T data, Condition condition) {
+        Preconditions.checkNotNull(data);
+        RowPutChange rowPutChange = OtsUtils.rowPutChange(data);
+        rowPutChange.setCondition(condition);
+        return FutureCallback.execute(new PutRowRequest(rowPutChange), asyncClient::putRow);
+    }
+
+    @Override
+    public <T> CompletableFuture<UpdateRowResponse> update(T data, Condition condition, boolean deleteNull) {
+        Preconditions.checkNotNull(data);
+        RowUpdateChange rowUpdateChange = OtsUtils.rowUpdateChange(data, deleteNull);
+        if (ChangeTracker.unchanged(rowUpdateChange)) {
+            return CompletableFuture.completedFuture(TableStoreRequests.unchangedResponse());
+        }
+        rowUpdateChange.setCondition(condition);
+        return FutureCallback.execute(new UpdateRowRequest(rowUpdateChange), asyncClient::updateRow);
+    }
+
+    @Override
+    public <T> CompletableFuture<DeleteRowResponse> delete(String table, T key, Condition condition) {
+        Preconditions.checkArgument(StringUtils.isNotEmpty(table));
+        Preconditions.checkNotNull(key);
+        RowDeleteChange rowDeleteChange = new RowDeleteChange(table, ColumnUtils.primaryKey(key));
+        rowDeleteChange.setCondition(condition);
+        return FutureCallback.execute(new DeleteRowRequest(rowDeleteChange), asyncClient::deleteRow);
+    }
+
+    @Override
+    public <T, U> CompletableFuture<T> get(U key, List<String> columnNames, Class<T> clazz) {
+        Preconditions.checkNotNull(key);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        PrimaryKey primaryKey = ColumnUtils.primaryKey(key);
+        return FutureCallback.execute(TableStoreRequests.getRowRequest(mapping.tableName(), primaryKey, TableStoreRequests.columnsToGet(columnNames, mapping, projection)),
+                asyncClient::getRow)
+                .thenApplyAsync(response -> response.getRow() == null ? null : OtsUtils.build(response.getRow(), clazz), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchWriteRowResponse> batchPut(List<Pair<T, Condition>> dataPairs) {
+        Preconditions.checkNotNull(dataPairs);
+        return batchWriteRow(TableStoreRequests.rowPutChanges(dataPairs));
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchWriteRowResponse> batchUpdate(List<Pair<T, Condition>> dataPairs, boolean deleteNull) {
+        Preconditions.checkNotNull(dataPairs);
+        return batchWriteRow(TableStoreRequests.rowUpdateChanges(dataPairs, deleteNull));
+    }
+
+    private CompletableFuture<BatchWriteRowResponse> batchWriteRow(List<RowChange> rowChanges) {
+        List<List<Integer>> chunks = TableStoreRequests.chunks(rowChanges, batch);
+        if (chunks.size() == 1 && chunks.get(0).size() == rowChanges.size()) {
+            BatchWriteRowRequest request = new BatchWriteRowRequest();
+            rowChanges.forEach(request::addRowChange);
+            return FutureCallback.execute(request, asyncClient::batchWriteRow);
+        }
+        List<CompletableFuture<BatchWriteRowResponse>> futures = chunks.stream()
+                .map(chunk -> FutureCallback.execute(TableStoreRequests.batchWriteRowRequest(rowChanges, chunk), asyncClient::batchWriteRow))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync(ignored -> TableStoreRequests.merge(rowChanges, chunks,
+                        futures.stream().map(CompletableFuture::join).collect(Collectors.toList())), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<RangeGetReply<T>> rangeGet(RangeGetQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        List<String> columnNames = TableStoreRequests.columnsToGet(query.columnNames(), mapping, projection);
+        return rangeGet(query, clazz, mapping.tableName(), columnNames, new RangeGetReply<>(),
+                query.startPrimaryKey(), Math.min(query.limit(), 100));
+    }
+
+    private <T> CompletableFuture<RangeGetReply<T>> rangeGet(RangeGetQuery query, Class<T> clazz, String tableName, List<String> columnNames,
+                                                             RangeGetReply<T> reply, PrimaryKey start, int batchSize) {
+        return FutureCallback.execute(TableStoreRequests.getRangeRequest(tableName, start, query.endPrimaryKey(), columnNames, query.direction(), batchSize),
+                asyncClient::getRange)
+                .thenComposeAsync(response -> {
+                    if (response == null || response.getRows() == null) {
+                        reply.nextStartPrimaryKey(null);
+                        return CompletableFuture.completedFuture(reply);
+                    }
+                    response.getRows().stream()
+                            .map(row -> OtsUtils.build(row, clazz))
+                            .filter(Objects::nonNull)
+                            .forEach(reply::add);
+                    PrimaryKey next = response.getNextStartPrimaryKey();
+                    int nextBatchSize = batchSize;
+                    if (next != null && query.limit() > 0) {
+                        nextBatchSize = Math.min(query.limit() - reply.records().size(), 500);
+                        if (nextBatchSize <= 0) {
+                            reply.nextStartPrimaryKey(next);
+                            return CompletableFuture.completedFuture(reply);
+                        }
+                    }
+                    if (next == null) {
+                        return CompletableFuture.completedFuture(reply);
+                    }
+                    return rangeGet(query, clazz, tableName, columnNames, reply, next, nextBatchSize);
+                }, executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchGetReply<T>> batchGet(BatchGetQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        Preconditions.checkNotNull(query.primaryKeys());
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        String tableName = mapping.tableName();
+        List<String> columnNames = TableStoreRequests.columnsToGet(query.columnNames(), mapping, projection);
+
+        List<PrimaryKey> keys = new ArrayList<>();
+        int[] slots = TableStoreRequests.distinct(tableName, query.primaryKeys(), new ArrayList<>(), keys);
+        Row[] rows = new Row[keys.size()];
+        Error[] errors = new Error[keys.size()];
+        List<List<PrimaryKey>> chunks = Lists.partition(keys, TableStoreRequests.MAX_BATCH_GET_ROWS);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+        for (int i = 0; i < chunks.size(); i++) {
+            int offset = i * TableStoreRequests.MAX_BATCH_GET_ROWS;
+            futures[i] = FutureCallback.execute(TableStoreRequests.batchGetRowRequest(tableName, chunks.get(i), columnNames), asyncClient::batchGetRow)
+                    .thenAccept(response -> TableStoreRequests.collect(response, offset, rows, errors));
+        }
+        return CompletableFuture.allOf(futures)
+                .thenApplyAsync(ignored -> TableStoreRequests.batchGetReply(query.primaryKeys(), slots, rows, errors, clazz), executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<IndexSearchReply<T>> search(IndexSearchQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        return FutureCallback.execute(TableStoreRequests.searchRequest(query, mapping), asyncClient::search)
+                .thenApplyAsync(response -> TableStoreRequests.searchReply(response, clazz), executor);
+    }
+}
@@ -0,0 +1,290 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.model.BatchGetRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchGetRowResponse;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.CapacityUnit;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.ConsumedCapacity;
+import com.alicloud.openservices.tablestore.model.Direction;
+import com.alicloud.openservices.tablestore.model.Error;
+import com.alicloud.openservices.tablestore.model.GetRangeRequest;
+import com.alicloud.openservices.tablestore.model.GetRowRequest;
+import com.alicloud.openservices.tablestore.model.MultiRowQueryCriteria;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.RangeRowQueryCriteria;
+import com.alicloud.openservices.tablestore.model.Response;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.alicloud.openservices.tablestore.model.SingleRowQueryCriteria;
+import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
+import com.alicloud.openservices.tablestore.model.search.SearchRequest;
+import com.alicloud.openservices.tablestore.model.search.SearchResponse;
+import com.google.common.collect.Lists;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.enums.RowStatus;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchReply;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.utils.ChangeTracker;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 同步与异步服务共用的请求构造与响应转换
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class TableStoreRequests {
+
+    /**
+     * 单个BatchGetRow请求的最大行数
+     */
+    static final int MAX_BATCH_GET_ROWS = 100;
+
+    private TableStoreRequests() {
+    }
+
+    /**
+     * 未指定返回列且开启裁剪时，使用结果类可读字段对应的列
+     */
+    static List<String> columnsToGet(List<String> columnNames, TableMapping mapping, boolean projection) {
+        if (CollectionUtils.isNotEmpty(columnNames) || !projection) {
+            return columnNames;
+        }
+        return mapping.projection();
+    }
+
+    static GetRowRequest getRowRequest(String tableName, PrimaryKey primaryKey, List<String> columnNames) {
+        SingleRowQueryCriteria criteria = new SingleRowQueryCriteria(tableName, primaryKey);
+        criteria.setMaxVersions(1);
+        if (CollectionUtils.isNotEmpty(columnNames)) {
+            criteria.addColumnsToGet(columnNames);
+        }
+        return new GetRowRequest(criteria);
+    }
+
+    static GetRangeRequest getRangeRequest(String tableName, PrimaryKey start, PrimaryKey end, List<String> columnNames, Direction direction, int limit) {
+        GetRangeRequest getRangeRequest = new GetRangeRequest();
+        RangeRowQueryCriteria criteria = new RangeRowQueryCriteria(tableName);
+        criteria.setInclusiveStartPrimaryKey(start);
+        criteria.setExclusiveEndPrimaryKey(end);
+        criteria.setMaxVersions(1);
+        criteria.setDirection(direction);
+        if (CollectionUtils.isNotEmpty(columnNames)) {
+            criteria.addColumnsToGet(columnNames);
+        }
+        if (limit > 0) {
+            criteria.setLimit(limit);
+        }
+        getRangeRequest.setRangeRowQueryCriteria(criteria);
+        return getRangeRequest;
+    }
+
+    static BatchGetRowRequest batchGetRowRequest(String tableName, List<PrimaryKey> primaryKeys, List<String> columnNames) {
+        BatchGetRowRequest request = new BatchGetRowRequest();
+        request.addMultiRowQueryCriteria(multiRowQueryCriteria(tableName, primaryKeys, columnNames));
+        return request;
+    }
+
+    static MultiRowQueryCriteria multiRowQueryCriteria(String tableName, List<PrimaryKey> primaryKeys, List<String> columnNames) {
+        MultiRowQueryCriteria criteria = new MultiRowQueryCriteria(tableName);
+        criteria.setRowKeys(primaryKeys);
+        criteria.setMaxVersions(1);
+        if (CollectionUtils.isNotEmpty(columnNames)) {
+            criteria.addColumnsToGet(columnNames);
+        }
+        return criteria;
+    }
+
+    /**
+     * 去重后的主键追加到keys，重复的主键只读取一次
+     *
+     * @return 每个请求主键在keys中的下标
+     */
+    static int[] distinct(String tableName, List<PrimaryKey> primaryKeys, List<String> tables, List<PrimaryKey> keys) {
+        Map<PrimaryKey, Integer> positions = new HashMap<>();
+        int[] slots = new int[primaryKeys.size()];
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            slots[i] = positions.computeIfAbsent(primaryKeys.get(i), key -> {
+                tables.add(tableName);
+                keys.add(key);
+                return keys.size() - 1;
+            });
+        }
+        return slots;
+    }
+
+    /**
+     * 将单表BatchGetRow请求的结果写入rows、errors，offset为该请求第一个主键的下标
+     */
+    static void collect(BatchGetRowResponse response, int offset, Row[] rows, Error[] errors) {
+        response.getSucceedRows().forEach(result -> rows[offset + result.getIndex()] = result.getRow());
+        response.getFailedRows().forEach(result -> errors[offset + result.getIndex()] = result.getError());
+    }
+
+    /**
+     * 按请求主键顺序合并结果，slots为每个请求主键在rows、errors中的下标，为null时一一对应
+     */
+    static <T> BatchGetReply<T> batchGetReply(List<PrimaryKey> primaryKeys, int[] slots, Row[] rows, Error[] errors, Class<T> clazz) {
+        BatchGetReply<T> reply = new BatchGetReply<>();
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            int slot = slots == null ? i : slots[i];
+            if (errors[slot] != null) {
+                reply.addError(Pair.of(primaryKeys.get(i), errors[slot]));
+                reply.addResult(null, RowStatus.FAILED);
+                continue;
+            }
+            T record = rows[slot] == null ? null : OtsUtils.build(rows[slot], clazz);
+            if (record == null) {
+                reply.addResult(null, RowStatus.ABSENT);
+            } else {
+                reply.add(record);
+                reply.addResult(record, RowStatus.PRESENT);
+            }
+        }
+        return reply;
+    }
+
+    static SearchRequest searchRequest(IndexSearchQuery query, TableMapping mapping) {
+        SearchRequest.ColumnsToGet columnsToGet = new SearchRequest.ColumnsToGet();
+        if (CollectionUtils.isNotEmpty(query.columns())) {
+            columnsToGet.setColumns(query.columns());
+        } else {
+            columnsToGet.setReturnAll(true);
+        }
+        SearchRequest request = new SearchRequest(mapping.tableName(), mapping.indexName(), query.searchQuery());
+        request.setColumnsToGet(columnsToGet);
+        return request;
+    }
+
+    static <T> IndexSearchReply<T> searchReply(SearchResponse response, Class<T> clazz) {
+        IndexSearchReply<T> reply = new IndexSearchReply<>();
+        response.getRows().stream()
+                .map(row -> OtsUtils.build(row, clazz))
+                .filter(Objects::nonNull)
+                .forEach(reply::add);
+        reply.totalCount(response.getTotalCount());
+        reply.allSuccess(response.isAllSuccess());
+        return reply;
+    }
+
+    static <T> List<RowChange> rowPutChanges(List<Pair<T, Condition>> dataPairs) {
+        List<RowChange> rowChanges = Lists.newArrayListWithCapacity(dataPairs.size());
+        for (Pair<T, Condition> dataPair : dataPairs) {
+            RowPutChange rowPutChange = OtsUtils.rowPutChange(dataPair.getKey());
+            rowPutChange.setCondition(dataPair.getValue());
+            rowChanges.add(rowPutChange);
+        }
+        return rowChanges;
+    }
+
+    static <T> List<RowChange> rowUpdateChanges(List<Pair<T, Condition>> dataPairs, boolean deleteNull) {
+        List<RowChange> rowChanges = Lists.newArrayListWithCapacity(dataPairs.size());
+        for (Pair<T, Condition> dataPair : dataPairs) {
+            RowUpdateChange rowUpdateChange = OtsUtils.rowUpdateChange(dataPair.getKey(), deleteNull);
+            rowUpdateChange.setCondition(dataPair.getValue());
+            rowChanges.add(rowUpdateChange);
+        }
+        return rowChanges;
+    }
+
+    static BatchWriteRowRequest batchWriteRowRequest(List<RowChange> rowChanges, List<Integer> positions) {
+        BatchWriteRowRequest request = new BatchWriteRowRequest();
+        positions.forEach(position -> request.addRowChange(rowChanges.get(position)));
+        return request;
+    }
+
+    /**
+     * 按行数与字节数拆分BatchWriteRow请求
+     *
+     * @return 每个请求包含的行在输入中的下标，不含无需发送的行（见{@link ChangeTracker#unchanged(RowChange)}）
+     */
+    static List<List<Integer>> chunks(List<RowChange> rowChanges, TableStoreProperties.Batch batch) {
+        List<List<Integer>> chunks = Lists.newArrayList();
+        List<Integer> chunk = Lists.newArrayList();
+        long bytes = 0;
+        for (int i = 0; i < rowChanges.size(); i++) {
+            if (ChangeTracker.unchanged(rowChanges.get(i))) {
+                continue;
+            }
+            long size = rowChanges.get(i).getDataSize();
+            if (!chunk.isEmpty() && (chunk.size() >= batch.getMaxRows() || bytes + size > batch.getMaxBytes())) {
+                chunks.add(chunk);
+                chunk = Lists.newArrayList();
+                bytes = 0;
+            }
+            chunk.add(i);
+            bytes += size;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 合并拆分后各请求的响应，结果与单个请求一致：行结果按表分组、按输入顺序排列，index为该行在本表输入行中的序号；
+     * 未发送的行视为成功，消耗的读写能力为0
+     */
+    static BatchWriteRowResponse merge(List<RowChange> rowChanges, List<List<Integer>> chunks, List<BatchWriteRowResponse> responses) {
+        String requestId = responses.stream().map(BatchWriteRowResponse::getRequestId).collect(Collectors.joining(","));
+        BatchWriteRowResponse response = new BatchWriteRowResponse(new Response(requestId));
+        Map<String, Integer> tableOffsets = new HashMap<>();
+        int next = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            Map<String, List<BatchWriteRowResponse.RowResult>> rowStatus = responses.get(i).getRowStatus();
+            Map<String, Integer> chunkIndexes = new HashMap<>();
+            for (int position : chunks.get(i)) {
+                for (; next < position; next++) {
+                    response.addRowResult(unchangedResult(rowChanges.get(next), tableOffsets));
+                }
+                next = position + 1;
+                String tableName = rowChanges.get(position).getTableName();
+                int chunkIndex = chunkIndexes.merge(tableName, 1, Integer::sum) - 1;
+                int index = tableOffsets.merge(tableName, 1, Integer::sum) - 1;
+                List<BatchWriteRowResponse.RowResult> results = rowStatus.get(tableName);
+                if (results == null || chunkIndex >= results.size()) {
+                    continue;
+                }
+                response.addRowResult(reindex(results.get(chunkIndex), index));
+            }
+        }
+        for (; next < rowChanges.size(); next++) {
+            response.addRowResult(unchangedResult(rowChanges.get(next), tableOffsets));
+        }
+        return response;
+    }
+
+    private static BatchWriteRowResponse.RowResult unchangedResult(RowChange rowChange, Map<String, Integer> tableOffsets) {
+        int index = tableOffsets.merge(rowChange.getTableName(), 1, Integer::sum) - 1;
+        return new BatchWriteRowResponse.RowResult(rowChange.getTableName(), null, new ConsumedCapacity(new CapacityUnit(0, 0)), index);
+    }
+
+    /**
+     * 无需发送的更新行的响应，消耗的读写能力为0
+     */
+    static UpdateRowResponse unchangedResponse() {
+        return new UpdateRowResponse(new Response(), null, new ConsumedCapacity(new CapacityUnit(0, 0)));
+    }
+
+    private static BatchWriteRowResponse.RowResult reindex(BatchWriteRowResponse.RowResult result, int index) {
+        if (result.isSucceed()) {
+            return new BatchWriteRowResponse.RowResult(result.getTableName(), result.getRow(), result.getConsumedCapacity(), index);
+        }
+        return new BatchWriteRowResponse.RowResult(result.getTableName(), result.getRow(), result.getError(), index);
+    }
+}
@@ -1,12 +1,13 @@
 package org.springframework.boot.autoconfigure.tablestore.service.impl;
 
-import com.alicloud.openservices.tablestore.SyncClient;
+import com.alicloud.openservices.tablestore.SyncClientInterface;
+import com.alicloud.openservices.tablestore.TableStoreException;
 import com.alicloud.openservices.tablestore.model.BatchGetRowRequest;
 import com.alicloud.openservices.tablestore.model.BatchGetRowResponse;
 import com.alicloud.openservices.tablestore.model.BatchWriteRowRequest;
 import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
-import com.alicloud.openservices.tablestore.model.Column;
-import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.ComputeSplitsBySizeRequest;
+import com.alicloud.openservices.tablestore.model.ComputeSplitsBySizeResponse;
 import com.alicloud.openservices.tablestore.model.Condition;
 import com.alicloud.openservices.tablestore.model.CreateTableRequest;
 import com.alicloud.openservices.tablestore.model.CreateTableResponse;
@@ -17,55 +18,68 @@ import com.alicloud.openservices.tablestore.model.DeleteTableResponse;
 import com.alicloud.openservices.tablestore.model.DescribeTableRequest;
 import com.alicloud.openservices.tablestore.model.DescribeTableResponse;
 import com.alicloud.openservices.tablestore.model.Direction;
-import com.alicloud.openservices.tablestore.model.GetRangeRequest;
+import com.alicloud.openservices.tablestore.model.Error;
 import com.alicloud.openservices.tablestore.model.GetRangeResponse;
-import com.alicloud.openservices.tablestore.model.GetRowRequest;
 import com.alicloud.openservices.tablestore.model.GetRowResponse;
-import com.alicloud.openservices.tablestore.model.MultiRowQueryCriteria;
 import com.alicloud.openservices.tablestore.model.PrimaryKey;
-import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
 import com.alicloud.openservices.tablestore.model.PrimaryKeySchema;
 import com.alicloud.openservices.tablestore.model.PrimaryKeyType;
-import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
 import com.alicloud.openservices.tablestore.model.PutRowRequest;
 import com.alicloud.openservices.tablestore.model.PutRowResponse;
-import com.alicloud.openservices.tablestore.model.RangeRowQueryCriteria;
 import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowChange;
 import com.alicloud.openservices.tablestore.model.RowDeleteChange;
 import com.alicloud.openservices.tablestore.model.RowPutChange;
 import com.alicloud.openservices.tablestore.model.RowUpdateChange;
-import com.alicloud.openservices.tablestore.model.SingleRowQueryCriteria;
 import com.alicloud.openservices.tablestore.model.TableMeta;
 import com.alicloud.openservices.tablestore.model.TableOptions;
 import com.alicloud.openservices.tablestore.model.UpdateRowRequest;
 import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
-import com.alicloud.openservices.tablestore.model.search.SearchQuery;
-import com.alicloud.openservices.tablestore.model.search.SearchRequest;
 import com.alicloud.openservices.tablestore.model.search.SearchResponse;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
-import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
 import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
 import org.springframework.boot.autoconfigure.tablestore.model.BatchGetQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchWriteReply;
 import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.IndexSearchReply;
+import org.springframework.boot.autoconfigure.tablestore.model.LazyRow;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.ParallelScanQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
 import org.springframework.boot.autoconfigure.tablestore.model.RangeGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeIterator;
 import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
 import org.springframework.boot.autoconfigure.tablestore.service.TableStoreService;
+import org.springframework.boot.autoconfigure.tablestore.utils.ChangeTracker;
 import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
 import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
 import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Created on 2020/10/09
@@ -74,10 +88,34 @@ import java.util.Objects;
  */
 public class TableStoreServiceImpl implements TableStoreService {
 
-    private final SyncClient syncClient;
+    private final SyncClientInterface syncClient;
 
-    public TableStoreServiceImpl(SyncClient syncClient) {
+    private final boolean projection;
+
+    private final TableStoreProperties.Batch batch;
+
+    private final TableStoreProperties.Scan scan;
+
+    private final Executor executor;
+
+    public TableStoreServiceImpl(SyncClientInterface syncClient) {
+        this(syncClient, new TableStoreProperties());
+    }
+
+    public TableStoreServiceImpl(SyncClientInterface syncClient, TableStoreProperties properties) {
+        this(syncClient, properties, Runnable::run);
+    }
+
+    /**
+     * @param executor 执行拆分后的批量请求与范围读取的预读，为调用线程执行时各请求依次发送
+     */
+    public TableStoreServiceImpl(SyncClientInterface syncClient, TableStoreProperties properties, Executor executor) {
+        Preconditions.checkArgument(properties.getBatch().getMaxRows() > 0, "batch max rows must be positive");
         this.syncClient = syncClient;
+        this.projection = properties.isProjection();
+        this.batch = properties.getBatch();
+        this.scan = properties.getScan();
+        this.executor = executor;
     }
 
     @Override
@@ -92,8 +130,7 @@ public class TableStoreServiceImpl implements TableStoreService {
 
     @Override
     public <T> CreateTableResponse createTable(String table, Class<T> clazz, int timeToLive, int maxVersion, long maxTimeDeviation, boolean allowUpdate) {
-        Pair<Map<String, FieldInfo>, Boolean> declaredFieldInfo = FieldUtils.getDeclaredFields(clazz);
-        TableMeta tableMeta = tableMeta(table, declaredFieldInfo.getKey());
+        TableMeta tableMeta = tableMeta(table, FieldUtils.getTableMapping(clazz));
         TableOptions tableOptions = tableOptions(timeToLive, maxVersion, maxTimeDeviation, allowUpdate);
         return createTable(tableMeta, tableOptions);
     }
@@ -118,7 +155,7 @@ public class TableStoreServiceImpl implements TableStoreService {
     @Override
     public <T> PutRowResponse put(T data, Condition condition) {
         Preconditions.checkNotNull(data);
-        RowPutChange rowPutChange = rowPutChange(data);
+        RowPutChange rowPutChange = OtsUtils.rowPutChange(data);
         rowPutChange.setCondition(condition);
         return syncClient.putRow(new PutRowRequest(rowPutChange));
     }
@@ -126,7 +163,10 @@ public class TableStoreServiceImpl implements TableStoreService {
     @Override
     public <T> UpdateRowResponse update(T data, Condition condition, boolean deleteNull) {
         Preconditions.checkNotNull(data);
-        RowUpdateChange rowUpdateChange = rowUpdateChange(data, deleteNull);
+        RowUpdateChange rowUpdateChange = OtsUtils.rowUpdateChange(data, deleteNull);
+        if (ChangeTracker.unchanged(rowUpdateChange)) {
+            return TableStoreRequests.unchangedResponse();
+        }
         rowUpdateChange.setCondition(condition);
         return syncClient.updateRow(new UpdateRowRequest(rowUpdateChange));
     }
@@ -143,163 +183,411 @@ public class TableStoreServiceImpl implements TableStoreService {
 
     @Override
     public <T, U> T get(U key, List<String> columnNames, Class<T> clazz) {
-        Preconditions.checkNotNull(key);
-        Table table = clazz.getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
-        }
-        PrimaryKey primaryKey = ColumnUtils.primaryKey(key);
-        SingleRowQueryCriteria criteria = new SingleRowQueryCriteria(table.name(), primaryKey);
-        criteria.setMaxVersions(1);
-        if (CollectionUtils.isNotEmpty(columnNames)) {
-            criteria.addColumnsToGet(columnNames);
-        }
-        GetRowResponse response = syncClient.getRow(new GetRowRequest(criteria));
-        Row row = response.getRow();
+        Row row = getRow(key, columnNames, clazz);
         if (row == null) {
             return null;
         }
         return OtsUtils.build(row, clazz);
     }
 
+    @Override
+    public <T, U> LazyRow<T> getLazy(U key, List<String> columnNames, Class<T> clazz) {
+        Row row = getRow(key, columnNames, clazz);
+        if (row == null) {
+            return null;
+        }
+        return new LazyRow<>(row, clazz);
+    }
+
     @Override
     public <T> BatchWriteRowResponse batchPut(List<Pair<T, Condition>> dataPairs) {
         Preconditions.checkNotNull(dataPairs);
-        BatchWriteRowRequest request = new BatchWriteRowRequest();
-        for (Pair<T, Condition> dataPair : dataPairs) {
-            RowPutChange rowPutChange = rowPutChange(dataPair.getKey());
-            rowPutChange.setCondition(dataPair.getValue());
-            request.addRowChange(rowPutChange);
-        }
-        return syncClient.batchWriteRow(request);
+        return batchWriteRow(TableStoreRequests.rowPutChanges(dataPairs));
     }
 
     @Override
     public <T> BatchWriteRowResponse batchUpdate(List<Pair<T, Condition>> dataPairs, boolean deleteNull) {
         Preconditions.checkNotNull(dataPairs);
-        BatchWriteRowRequest request = new BatchWriteRowRequest();
-        for (Pair<T, Condition> dataPair : dataPairs) {
-            RowUpdateChange rowUpdateChange = rowUpdateChange(dataPair.getKey(), deleteNull);
-            rowUpdateChange.setCondition(dataPair.getValue());
-            request.addRowChange(rowUpdateChange);
-        }
-        return syncClient.batchWriteRow(request);
+        return batchWriteRow(TableStoreRequests.rowUpdateChanges(dataPairs, deleteNull));
     }
 
     @Override
-    public <T> RangeGetReply<T> rangeGet(RangeGetQuery query, Class<T> clazz) {
-        Preconditions.checkNotNull(query);
-        Table table = clazz.getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
+    public <T> BatchWriteReply<T> batchPutWithRetry(List<Pair<T, Condition>> dataPairs) {
+        Preconditions.checkNotNull(dataPairs);
+        return batchWriteWithRetry(Lists.transform(dataPairs, Pair::getKey), TableStoreRequests.rowPutChanges(dataPairs));
+    }
+
+    @Override
+    public <T> BatchWriteReply<T> batchUpdateWithRetry(List<Pair<T, Condition>> dataPairs, boolean deleteNull) {
+        Preconditions.checkNotNull(dataPairs);
+        return batchWriteWithRetry(Lists.transform(dataPairs, Pair::getKey), TableStoreRequests.rowUpdateChanges(dataPairs, deleteNull));
+    }
+
+    @Override
+    public BatchWriteReply<RowChange> batchWriteWithRetry(List<RowChange> rowChanges) {
+        Preconditions.checkNotNull(rowChanges);
+        return batchWriteWithRetry(rowChanges, rowChanges);
+    }
+
+    /**
+     * 按行数与字节数拆分为多个BatchWriteRow请求并发执行，合并后的响应与单个请求一致
+     * <p>
+     * 任一请求抛出异常时，等待其余请求结束后抛出该异常
+     */
+    private BatchWriteRowResponse batchWriteRow(List<RowChange> rowChanges) {
+        List<List<Integer>> chunks = TableStoreRequests.chunks(rowChanges, batch);
+        if (chunks.size() == 1 && chunks.get(0).size() == rowChanges.size()) {
+            BatchWriteRowRequest request = new BatchWriteRowRequest();
+            rowChanges.forEach(request::addRowChange);
+            return syncClient.batchWriteRow(request);
+        }
+        List<BatchWriteRowResponse> responses = parallel(chunks,
+                chunk -> syncClient.batchWriteRow(TableStoreRequests.batchWriteRowRequest(rowChanges, chunk)));
+        return TableStoreRequests.merge(rowChanges, chunks, responses);
+    }
+
+    /**
+     * 拆分后并发执行，每个请求只重发可重试错误的失败行，直到全部结束或重试次数、重试时间用尽
+     */
+    private <T> BatchWriteReply<T> batchWriteWithRetry(List<T> data, List<RowChange> rowChanges) {
+        boolean[] succeeded = new boolean[rowChanges.size()];
+        Error[] errors = new Error[rowChanges.size()];
+        for (int i = 0; i < succeeded.length; i++) {
+            succeeded[i] = ChangeTracker.unchanged(rowChanges.get(i));
+        }
+        List<Integer> retries = parallel(TableStoreRequests.chunks(rowChanges, batch), chunk -> writeWithRetry(chunk, rowChanges, succeeded, errors));
+        BatchWriteReply<T> reply = new BatchWriteReply<>();
+        for (int i = 0; i < data.size(); i++) {
+            if (succeeded[i]) {
+                reply.add(data.get(i));
+            } else {
+                reply.addError(Pair.of(data.get(i), errors[i]));
+            }
+        }
+        retries.forEach(reply::addRetries);
+        return reply;
+    }
+
+    /**
+     * @return 重试发送的行数
+     */
+    private int writeWithRetry(List<Integer> positions, List<RowChange> rowChanges, boolean[] succeeded, Error[] errors) {
+        TableStoreProperties.Retry retry = batch.getRetry();
+        long deadline = System.nanoTime() + retry.getBudget().toNanos();
+        List<Integer> pending = positions;
+        int retries = 0;
+        for (int attempt = 0; ; attempt++) {
+            BatchWriteRowRequest request = new BatchWriteRowRequest();
+            Map<String, List<Integer>> tablePositions = new HashMap<>();
+            for (int position : pending) {
+                RowChange rowChange = rowChanges.get(position);
+                request.addRowChange(rowChange);
+                tablePositions.computeIfAbsent(rowChange.getTableName(), key -> Lists.newArrayList()).add(position);
+            }
+            boolean retryable = attempt < retry.getMaxAttempts() - 1 && System.nanoTime() < deadline;
+            List<Integer> failed = Lists.newArrayList();
+            try {
+                BatchWriteRowResponse response = syncClient.batchWriteRow(request);
+                for (BatchWriteRowResponse.RowResult result : response.getSucceedRows()) {
+                    succeeded[tablePositions.get(result.getTableName()).get(result.getIndex())] = true;
+                }
+                for (BatchWriteRowResponse.RowResult result : response.getFailedRows()) {
+                    int position = tablePositions.get(result.getTableName()).get(result.getIndex());
+                    errors[position] = result.getError();
+                    if (retryable && retry.getErrorCodes().contains(result.getError().getCode())) {
+                        failed.add(position);
+                    }
+                }
+            } catch (TableStoreException e) {
+                Error error = new Error(e.getErrorCode(), e.getMessage());
+                pending.forEach(position -> errors[position] = error);
+                if (retryable && retry.getErrorCodes().contains(e.getErrorCode())) {
+                    failed.addAll(pending);
+                }
+            }
+            if (failed.isEmpty() || !backoff(attempt, deadline)) {
+                return retries;
+            }
+            Collections.sort(failed);
+            pending = failed;
+            retries += failed.size();
         }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
+    }
+
+    /**
+     * 指数退避，在[0, min(最大间隔, 初始间隔 * 2^attempt)]内随机等待
+     *
+     * @return 是否可以继续重试
+     */
+    private boolean backoff(int attempt, long deadline) {
+        TableStoreProperties.Retry retry = batch.getRetry();
+        long ceiling = Math.min(retry.getMaxBackoff().toMillis(), retry.getBackoff().toMillis() << Math.min(attempt, 30));
+        long sleep = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleep) >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(sleep);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
-        RangeGetReply<T> reply = new RangeGetReply<>();
-        PrimaryKey start = query.startPrimaryKey();
-        int batchSize = Math.min(query.limit(), 100);
-        while (start != null) {
-            GetRangeResponse response = getRange(table.name(), start, query.endPrimaryKey(), query.columnNames(),
-                    query.direction(), batchSize);
-            if (response == null || response.getRows() == null) {
-                reply.nextStartPrimaryKey(null);
+    }
+
+    /**
+     * 调用线程与executor中的线程共同领取并执行任务，按输入顺序返回结果；任一任务抛出异常时，等待其余任务结束后抛出该异常
+     * <p>
+     * 调用线程只等待已被其他线程领取的任务，不等待排在executor队列中的任务，在executor的线程中调用时也不会因线程耗尽而死锁
+     */
+    private <E, R> List<R> parallel(List<E> items, Function<E, R> task) {
+        if (items.size() == 1) {
+            return Collections.singletonList(task.apply(items.get(0)));
+        }
+        List<CompletableFuture<R>> futures = Lists.newArrayListWithCapacity(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < items.size()) {
+                try {
+                    futures.get(index).complete(task.apply(items.get(index)));
+                } catch (Throwable e) {
+                    futures.get(index).completeExceptionally(e);
+                }
+            }
+        };
+        int helpers = Math.min(items.size() - 1, batch.getParallelism());
+        for (int i = 0; i < helpers && next.get() < items.size(); i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
                 break;
             }
-            response.getRows().stream()
-                    .map(row -> OtsUtils.build(row, clazz))
-                    .filter(Objects::nonNull)
-                    .forEach(reply::add);
-            start = response.getNextStartPrimaryKey();
-            if (query.limit() > 0) {
-                batchSize = Math.min(query.limit() - reply.records().size(), 500);
-                if (batchSize <= 0) {
-                    response.setNextStartPrimaryKey(start);
-                    break;
-                }
+        }
+        worker.run();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         }
-        return reply;
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
     }
 
     @Override
-    public <T> BatchGetReply<T> batchGet(BatchGetQuery query, Class<T> clazz) {
+    public <T> RangeGetReply<T> rangeGet(RangeGetQuery query, Class<T> clazz) {
+        return rangeGet(query, clazz, row -> OtsUtils.build(row, clazz));
+    }
+
+    @Override
+    public <T> RangeGetReply<LazyRow<T>> rangeGetLazy(RangeGetQuery query, Class<T> clazz) {
+        return rangeGet(query, clazz, row -> new LazyRow<>(row, clazz));
+    }
+
+    @Override
+    public <T> RangeIterator<T> rangeIterator(RangeGetQuery query, Class<T> clazz) {
+        return rangeIterator(query, clazz, row -> OtsUtils.build(row, clazz), scan);
+    }
+
+    @Override
+    public <T> Stream<T> rangeStream(RangeGetQuery query, Class<T> clazz) {
+        return rangeIterator(query, clazz).stream();
+    }
+
+    @Override
+    public <T> void parallelScan(ParallelScanQuery query, Class<T> clazz, Consumer<T> consumer) {
         Preconditions.checkNotNull(query);
-        Table table = clazz.getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
+        Preconditions.checkNotNull(consumer);
+        if (query.ordered()) {
+            try (Stream<T> stream = splitScanner(query, clazz).stream(true)) {
+                stream.forEach(consumer);
+            }
+        } else {
+            splitScanner(query, clazz).forEach(consumer);
         }
+    }
 
-        MultiRowQueryCriteria criteria = new MultiRowQueryCriteria(table.name());
-        criteria.setRowKeys(query.primaryKeys());
-        criteria.setMaxVersions(1);
-        if (CollectionUtils.isNotEmpty(query.columnNames())) {
-            criteria.addColumnsToGet(query.columnNames());
-        }
-        BatchGetRowRequest request = new BatchGetRowRequest();
-        request.addMultiRowQueryCriteria(criteria);
-        BatchGetRowResponse response = syncClient.batchGetRow(request);
-        if (response == null) {
-            return null;
+    @Override
+    public <T> Stream<T> parallelStream(ParallelScanQuery query, Class<T> clazz) {
+        return splitScanner(query, clazz).stream(query.ordered());
+    }
+
+    /**
+     * 各分片单独读取时不再预读，线程之间已重叠网络与转换
+     */
+    private <T> SplitScanner<T> splitScanner(ParallelScanQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        Preconditions.checkArgument(query.splitSize() > 0, "split size must be positive");
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        ComputeSplitsBySizeResponse response = syncClient.computeSplitsBySize(
+                new ComputeSplitsBySizeRequest(mapping.tableName(), query.splitSize()));
+        List<RangeGetQuery> splits = response.getSplits().stream().map(split -> {
+            RangeGetQuery range = new RangeGetQuery();
+            range.startPrimaryKey(split.getLowerBound());
+            range.endPrimaryKey(split.getUpperBound());
+            range.columnNames(query.columnNames());
+            range.limit(0);
+            return range;
+        }).collect(Collectors.toList());
+        int parallelism = query.parallelism() > 0 ? query.parallelism() : Runtime.getRuntime().availableProcessors();
+        TableStoreProperties.Scan noPrefetch = new TableStoreProperties.Scan();
+        noPrefetch.setPrefetch(0);
+        return new SplitScanner<>(splits, range -> rangeIterator(range, clazz, row -> OtsUtils.build(row, clazz), noPrefetch),
+                parallelism, query.bufferSize());
+    }
+
+    private <T, R> RangeGetReply<R> rangeGet(RangeGetQuery query, Class<T> clazz, Function<Row, R> mapper) {
+        RangeGetReply<R> reply = new RangeGetReply<>();
+        try (RangeIterator<R> iterator = rangeIterator(query, clazz, mapper, scan)) {
+            iterator.forEachRemaining(reply::add);
+            reply.nextStartPrimaryKey(iterator.nextStartPrimaryKey());
         }
-        BatchGetReply<T> reply = new BatchGetReply<>();
-        response.getSucceedRows().stream()
-                .map(BatchGetRowResponse.RowResult::getRow)
-                .filter(Objects::nonNull)
-                .map(row -> OtsUtils.build(row, clazz))
-                .filter(Objects::nonNull)
-                .forEach(reply::add);
-        response.getFailedRows().forEach(
-                result -> reply.addError(Pair.of(result.getRow().getPrimaryKey(), result.getError())));
         return reply;
     }
 
+    private <T, R> RangeIterator<R> rangeIterator(RangeGetQuery query, Class<T> clazz, Function<Row, R> mapper, TableStoreProperties.Scan scan) {
+        Preconditions.checkNotNull(query);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        String tableName = mapping.tableName();
+        List<String> columnNames = TableStoreRequests.columnsToGet(query.columnNames(), mapping, projection);
+        return new PagedRangeIterator<>(query.startPrimaryKey(), query.limit(), mapper,
+                (start, pageSize) -> getRange(tableName, start, query.endPrimaryKey(), columnNames, query.direction(), pageSize),
+                executor, scan);
+    }
+
     @Override
-    public <T> IndexSearchReply<T> search(IndexSearchQuery query, Class<T> clazz) {
+    public <T> BatchGetReply<T> batchGet(BatchGetQuery query, Class<T> clazz) {
         Preconditions.checkNotNull(query);
-        Table table = clazz.getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.index())) {
-            throw new OtsException("the index of table annotation is absent");
+        Preconditions.checkNotNull(query.primaryKeys());
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        String tableName = mapping.tableName();
+        List<String> columnNames = TableStoreRequests.columnsToGet(query.columnNames(), mapping, projection);
+
+        List<String> tables = new ArrayList<>();
+        List<PrimaryKey> keys = new ArrayList<>();
+        int[] slots = TableStoreRequests.distinct(tableName, query.primaryKeys(), tables, keys);
+        Row[] rows = new Row[keys.size()];
+        Error[] errors = new Error[keys.size()];
+        batchGet(tables, keys, Collections.singletonMap(tableName, columnNames), rows, errors);
+        return TableStoreRequests.batchGetReply(query.primaryKeys(), slots, rows, errors, clazz);
+    }
+
+    @Override
+    public MultiBatchGetReply batchGet(MultiBatchGetQuery query) {
+        Preconditions.checkNotNull(query);
+        List<String> tables = new ArrayList<>();
+        List<PrimaryKey> keys = new ArrayList<>();
+        Map<String, List<String>> columns = new HashMap<>();
+        Map<Class<?>, int[]> slots = new HashMap<>();
+        query.queries().forEach((clazz, batchGetQuery) -> {
+            TableMapping mapping = FieldUtils.getTableMapping(clazz);
+            String tableName = mapping.tableName();
+            Preconditions.checkArgument(!columns.containsKey(tableName), "duplicate table: %s", tableName);
+            columns.put(tableName, TableStoreRequests.columnsToGet(batchGetQuery.columnNames(), mapping, projection));
+            slots.put(clazz, TableStoreRequests.distinct(tableName, batchGetQuery.primaryKeys(), tables, keys));
+        });
+        Row[] rows = new Row[keys.size()];
+        Error[] errors = new Error[keys.size()];
+        batchGet(tables, keys, columns, rows, errors);
+        MultiBatchGetReply reply = new MultiBatchGetReply();
+        query.queries().forEach((clazz, batchGetQuery) -> reply.put(clazz,
+                TableStoreRequests.batchGetReply(batchGetQuery.primaryKeys(), slots.get(clazz), rows, errors, clazz)));
+        return reply;
+    }
+
+    /**
+     * 超过单个请求的行数上限时拆分后并发执行，不超过时多张表在同一个请求中读取
+     *
+     * @param tables  每个主键所在的表
+     * @param columns 各表的返回列
+     */
+    private void batchGet(List<String> tables, List<PrimaryKey> keys, Map<String, List<String>> columns, Row[] rows, Error[] errors) {
+        if (keys.isEmpty()) {
+            return;
         }
-        SearchQuery searchQuery = query.searchQuery();
-        SearchRequest.ColumnsToGet columnsToGet = new SearchRequest.ColumnsToGet();
-        if (CollectionUtils.isNotEmpty(query.columns())) {
-            columnsToGet.setColumns(query.columns());
-        } else {
-            columnsToGet.setReturnAll(true);
+        List<Integer> positions = IntStream.range(0, keys.size()).boxed().collect(Collectors.toList());
+        parallel(Lists.partition(positions, TableStoreRequests.MAX_BATCH_GET_ROWS),
+                chunk -> readWithRetry(chunk, tables, keys, columns, rows, errors));
+    }
+
+    /**
+     * 只重读可重试错误的失败行，退避与重试次数同批量写入
+     *
+     * @return 重试读取的行数
+     */
+    private int readWithRetry(List<Integer> positions, List<String> tables, List<PrimaryKey> keys, Map<String, List<String>> columns,
+                              Row[] rows, Error[] errors) {
+        TableStoreProperties.Retry retry = batch.getRetry();
+        long deadline = System.nanoTime() + retry.getBudget().toNanos();
+        List<Integer> pending = positions;
+        int retries = 0;
+        for (int attempt = 0; ; attempt++) {
+            BatchGetRowRequest request = new BatchGetRowRequest();
+            Map<String, List<Integer>> tablePositions = new LinkedHashMap<>();
+            for (int position : pending) {
+                tablePositions.computeIfAbsent(tables.get(position), key -> Lists.newArrayList()).add(position);
+            }
+            tablePositions.forEach((table, tablePending) -> request.addMultiRowQueryCriteria(
+                    TableStoreRequests.multiRowQueryCriteria(table, Lists.transform(tablePending, keys::get), columns.get(table))));
+            boolean retryable = attempt < retry.getMaxAttempts() - 1 && System.nanoTime() < deadline;
+            List<Integer> failed = Lists.newArrayList();
+            try {
+                BatchGetRowResponse response = syncClient.batchGetRow(request);
+                for (BatchGetRowResponse.RowResult result : response.getSucceedRows()) {
+                    int position = tablePositions.get(result.getTableName()).get(result.getIndex());
+                    rows[position] = result.getRow();
+                    errors[position] = null;
+                }
+                for (BatchGetRowResponse.RowResult result : response.getFailedRows()) {
+                    int position = tablePositions.get(result.getTableName()).get(result.getIndex());
+                    errors[position] = result.getError();
+                    if (retryable && retry.getErrorCodes().contains(result.getError().getCode())) {
+                        failed.add(position);
+                    }
+                }
+            } catch (TableStoreException e) {
+                Error error = new Error(e.getErrorCode(), e.getMessage());
+                pending.forEach(position -> errors[position] = error);
+                if (retryable && retry.getErrorCodes().contains(e.getErrorCode())) {
+                    failed.addAll(pending);
+                }
+            }
+            if (failed.isEmpty() || !backoff(attempt, deadline)) {
+                return retries;
+            }
+            Collections.sort(failed);
+            pending = failed;
+            retries += failed.size();
         }
-        SearchRequest request = new SearchRequest(table.name(), table.index(), searchQuery);
-        request.setColumnsToGet(columnsToGet);
-        SearchResponse response = syncClient.search(request);
-
-        IndexSearchReply<T> reply = new IndexSearchReply<>();
-        response.getRows().stream()
-                .map(row -> OtsUtils.build(row, clazz))
-                .filter(Objects::nonNull)
-                .forEach(reply::add);
-        reply.totalCount(response.getTotalCount());
-        reply.allSuccess(response.isAllSuccess());
-        return reply;
     }
 
-    private TableMeta tableMeta(String table, Map<String, FieldInfo> fieldInfos) {
+    @Override
+    public <T> IndexSearchReply<T> search(IndexSearchQuery query, Class<T> clazz) {
+        Preconditions.checkNotNull(query);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        SearchResponse response = syncClient.search(TableStoreRequests.searchRequest(query, mapping));
+        return TableStoreRequests.searchReply(response, clazz);
+    }
+
+    private <T, U> Row getRow(U key, List<String> columnNames, Class<T> clazz) {
+        Preconditions.checkNotNull(key);
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        String tableName = mapping.tableName();
+        PrimaryKey primaryKey = ColumnUtils.primaryKey(key);
+        GetRowResponse response = syncClient.getRow(
+                TableStoreRequests.getRowRequest(tableName, primaryKey, TableStoreRequests.columnsToGet(columnNames, mapping, projection)));
+        return response.getRow();
+    }
+
+    private TableMeta tableMeta(String table, TableMapping mapping) {
         TableMeta tableMeta = new TableMeta(table);
-        for (Map.Entry<String, FieldInfo> entry : fieldInfos.entrySet()) {
-            if (entry.getValue().otsColumn() != null && entry.getValue().otsColumn().primaryKey()) {
-                tableMeta.addPrimaryKeyColumn(primaryKeySchema(entry.getKey(), entry.getValue()));
-            }
+        for (FieldInfo fieldInfo : mapping.primaryKeys()) {
+            tableMeta.addPrimaryKeyColumn(primaryKeySchema(fieldInfo.columnName(), fieldInfo));
         }
         return tableMeta;
     }
@@ -349,154 +637,7 @@ public class TableStoreServiceImpl implements TableStoreService {
         }
     }
 
-    /**
-     * 构造TableStore插入行
-     *
-     * @param data 原始数据
-     * @param <T>  泛型
-     * @return 返回TableStore插入行变更
-     */
-    @SuppressWarnings(value = "unchecked")
-    private <T> RowPutChange rowPutChange(T data) {
-        Table table = data.getClass().getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
-        }
-        List<PrimaryKeyColumn> primaryKeyColumns = Lists.newArrayList();
-        List<Column> columns = Lists.newArrayList();
-
-        Pair<Map<String, FieldInfo>, Boolean> declaredFieldInfo = FieldUtils.getDeclaredFields(data.getClass());
-        declaredFieldInfo.getKey().forEach((columnName, fieldInfo) -> {
-            Object value = FieldUtils.invokeRead(fieldInfo.field(), data);
-            if (value == null) {
-                return;
-            }
-            if (fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().writable()) {
-                return;
-            }
-            if (fieldInfo.otsColumn() != null && fieldInfo.otsColumn().primaryKey()) {
-                setPrimaryColumns(fieldInfo.otsColumn(), columnName, value, primaryKeyColumns);
-            } else {
-                setColumns(fieldInfo.otsColumn(), columnName, value, columns);
-            }
-        });
-        if (declaredFieldInfo.getValue()) {
-            Map<String, Object> values = (Map<String, Object>) FieldUtils.invokeRead("dynamicColumns", data);
-            if (MapUtils.isNotEmpty(values)) {
-                values.forEach((key, value) -> {
-                    if (value != null) {
-                        setColumns(null, key, value, columns);
-                    }
-                });
-            }
-        }
-        String tableName = table.name();
-        RowPutChange rowPutChange = new RowPutChange(tableName, new PrimaryKey(primaryKeyColumns));
-        rowPutChange.addColumns(columns);
-        return rowPutChange;
-    }
-
-    /**
-     * 构造TableStore更新行
-     *
-     * @param data 原始数据
-     * @param <T>  泛型
-     * @return 返回TableStore更新行变更
-     */
-    @SuppressWarnings(value = "unchecked")
-    private <T> RowUpdateChange rowUpdateChange(T data, boolean deleteNull) {
-        Table table = data.getClass().getAnnotation(Table.class);
-        if (table == null) {
-            throw new OtsException("the table annotation is absent");
-        }
-        if (StringUtils.isBlank(table.name())) {
-            throw new OtsException("the name of table annotation is absent");
-        }
-        String tableName = table.name();
-        RowUpdateChange rowUpdateChange = new RowUpdateChange(tableName);
-
-        List<PrimaryKeyColumn> primaryKeyColumns = Lists.newArrayList();
-        List<Column> columns = Lists.newArrayList();
-
-        Pair<Map<String, FieldInfo>, Boolean> declaredFieldInfo = FieldUtils.getDeclaredFields(data.getClass());
-        declaredFieldInfo.getKey().forEach((columnName, fieldInfo) -> {
-            if (fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().writable()) {
-                return;
-            }
-            Object value = FieldUtils.invokeRead(fieldInfo.field(), data);
-            if (value == null) {
-                if (deleteNull && fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().primaryKey()) {
-                    rowUpdateChange.deleteColumns(columnName);
-                }
-                return;
-            }
-            if (fieldInfo.otsColumn() != null && fieldInfo.otsColumn().primaryKey()) {
-                setPrimaryColumns(fieldInfo.otsColumn(), columnName, value, primaryKeyColumns);
-            } else {
-                setColumns(fieldInfo.otsColumn(), columnName, value, columns);
-            }
-        });
-
-        if (declaredFieldInfo.getValue()) {
-            Map<String, Object> values = (Map<String, Object>) FieldUtils.invokeRead("dynamicColumns", data);
-            if (MapUtils.isNotEmpty(values)) {
-                values.forEach((key, value) -> {
-                    if (value == null) {
-                        if (deleteNull) {
-                            rowUpdateChange.deleteColumns(key);
-                        }
-                    } else {
-                        setColumns(null, key, value, columns);
-                    }
-                });
-            }
-        }
-
-        rowUpdateChange.setPrimaryKey(new PrimaryKey(primaryKeyColumns));
-        rowUpdateChange.put(columns);
-        return rowUpdateChange;
-    }
-
-    private void setPrimaryColumns(OtsColumn otsColumn, String columnName, Object value, List<PrimaryKeyColumn> primaryKeyColumns) {
-        PrimaryKeyValue primaryKeyValue;
-        if (otsColumn.autoIncrease() && value == null) {
-            primaryKeyValue = PrimaryKeyValue.AUTO_INCREMENT;
-        } else {
-            primaryKeyValue = ColumnUtils.getPrimaryKeyValue(value, otsColumn);
-        }
-        if (primaryKeyValue != null) {
-            primaryKeyColumns.add(new PrimaryKeyColumn(columnName, primaryKeyValue));
-        } else {
-            throw new OtsException("primary key config error, primary column: %s", columnName);
-        }
-    }
-
-    private void setColumns(OtsColumn otsColumn, String columnName, Object value, List<Column> columns) {
-        ColumnValue columnValue = ColumnUtils.getColumnValue(value, otsColumn);
-        if (columnValue != null) {
-            columns.add(new Column(columnName, columnValue));
-        } else {
-            throw new OtsException("column config error, column: %s", columnName);
-        }
-    }
-
     private GetRangeResponse getRange(String tableName, PrimaryKey start, PrimaryKey end, List<String> columnNames, Direction direction, int limit) {
-        GetRangeRequest getRangeRequest = new GetRangeRequest();
-        RangeRowQueryCriteria criteria = new RangeRowQueryCriteria(tableName);
-        criteria.setInclusiveStartPrimaryKey(start);
-        criteria.setExclusiveEndPrimaryKey(end);
-        criteria.setMaxVersions(1);
-        criteria.setDirection(direction);
-        if (CollectionUtils.isNotEmpty(columnNames)) {
-            criteria.addColumnsToGet(columnNames);
-        }
-        if (limit > 0) {
-            criteria.setLimit(limit);
-        }
-        getRangeRequest.setRangeRowQueryCriteria(criteria);
-        return syncClient.getRange(getRangeRequest);
+        return syncClient.getRange(TableStoreRequests.getRangeRequest(tableName, start, end, columnNames, direction, limit));
     }
 }
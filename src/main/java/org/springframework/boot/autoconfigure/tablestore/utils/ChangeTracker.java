@@ -0,0 +1,216 @@
+package org.springframework.boot.autoconfigure.tablestore.utils;
+
+import com.alicloud.openservices.tablestore.core.utils.Pair;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.google.common.collect.MapMaker;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 记录{@code @Table(trackChanges = true)}的类读取时各列的快照，更新时只发送与快照不同的列
+ * <ul>
+ *     <li>快照只保存每列的64位摘要，按对象引用关联，对象被回收后快照随之释放</li>
+ *     <li>快照不随写入刷新，再次更新会发送自读取以来的全部变更，可调用{@link #refresh(Object)}以当前值为新快照</li>
+ *     <li>编码结果与读取的原值不一致时（如序列化格式不同）视为已修改，不会漏写</li>
+ *     <li>没有任何修改时得到不含列的更新行，update、batchUpdate与BufferedTableWriter据此跳过该行（见{@link #unchanged(RowChange)}），不发送请求也不校验条件</li>
+ * </ul>
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ChangeTracker {
+
+    private static final ConcurrentMap<Object, Snapshot> SNAPSHOTS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * 直接读取{@code @Table}注解，使用生成的RowMapper时无需构造反射映射即可判断
+     *
+     * @param clazz 结果类类型
+     * @return 是否开启修改跟踪
+     */
+    public static boolean enabled(Class<?> clazz) {
+        Table table = clazz.getAnnotation(Table.class);
+        return table != null && table.trackChanges();
+    }
+
+    /**
+     * 以读取的行为快照开始跟踪结果类，结果类未开启跟踪时忽略
+     *
+     * @param data    结果类
+     * @param row     读取的行
+     * @param mapping 结果类映射
+     */
+    public static void track(Object data, Row row, TableMapping mapping) {
+        if (data == null || !mapping.trackChanges()) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(mapping.size());
+        for (Column column : row.getColumns()) {
+            int position = mapping.position(column.getName());
+            if (position >= 0 && !mapping.fieldInfo(position).primaryKey()) {
+                snapshot.set(position, column.getValue());
+            }
+        }
+        SNAPSHOTS.put(data, snapshot);
+    }
+
+    /**
+     * 以当前字段值为新快照，用于写入成功后只发送之后的修改
+     *
+     * @param data 结果类
+     */
+    public static void refresh(Object data) {
+        TableMapping mapping = FieldUtils.getTableMapping(data.getClass());
+        if (!mapping.trackChanges()) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(mapping.size());
+        for (FieldInfo fieldInfo : mapping.columns()) {
+            Object value = fieldInfo.accessor().get(data);
+            if (value != null) {
+                snapshot.set(mapping.position(fieldInfo.columnName()), fieldInfo.codec().encode(value));
+            }
+        }
+        SNAPSHOTS.put(data, snapshot);
+    }
+
+    /**
+     * 停止跟踪，之后的更新发送全部字段
+     *
+     * @param data 结果类
+     */
+    public static void detach(Object data) {
+        SNAPSHOTS.remove(data);
+    }
+
+    public static boolean tracked(Object data) {
+        return SNAPSHOTS.containsKey(data);
+    }
+
+    /**
+     * 从完整的更新行中去掉与快照一致的列：未修改的列不再put，读取时就不存在的列不再删除；
+     * 未映射到字段的列（如动态列）与increment等操作保持不变
+     *
+     * @param data    原始数据
+     * @param change  按全部字段构造的更新行
+     * @param mapping 原始数据映射
+     * @return 只包含修改列的更新行，未跟踪时返回原更新行，没有修改列时返回不含列的更新行
+     */
+    public static RowUpdateChange diff(Object data, RowUpdateChange change, TableMapping mapping) {
+        if (!mapping.trackChanges()) {
+            return change;
+        }
+        Snapshot snapshot = SNAPSHOTS.get(data);
+        if (snapshot == null) {
+            return change;
+        }
+        RowUpdateChange diff = new RowUpdateChange(change.getTableName(), change.getPrimaryKey());
+        for (Pair<Column, RowUpdateChange.Type> pair : change.getColumnsToUpdate()) {
+            Column column = pair.getFirst();
+            int position = mapping.position(column.getName());
+            if (position >= 0) {
+                if (pair.getSecond() == RowUpdateChange.Type.PUT && snapshot.matches(position, column.getValue())) {
+                    continue;
+                }
+                if (pair.getSecond() == RowUpdateChange.Type.DELETE_ALL && !snapshot.present(position)) {
+                    continue;
+                }
+            }
+            switch (pair.getSecond()) {
+                case PUT:
+                    diff.put(column);
+                    break;
+                case DELETE:
+                    diff.deleteColumn(column.getName(), column.getTimestamp());
+                    break;
+                case DELETE_ALL:
+                    diff.deleteColumns(column.getName());
+                    break;
+                case INCREMENT:
+                    diff.increment(column);
+                    break;
+                default:
+                    return change;
+            }
+        }
+        diff.setCondition(change.getCondition());
+        diff.setReturnType(change.getReturnType());
+        change.getReturnColumnNames().forEach(diff::addReturnColumn);
+        return diff;
+    }
+
+    /**
+     * 更新行不包含任何列时无需发送：开启跟踪且没有修改，或本就没有需要写入的列
+     *
+     * @param change 行变更
+     * @return 是否可以跳过
+     */
+    public static boolean unchanged(RowChange change) {
+        return change instanceof RowUpdateChange && ((RowUpdateChange) change).getColumnsToUpdate().isEmpty();
+    }
+
+    /**
+     * 各列的64位摘要，读取时不存在的列不设置
+     */
+    private static final class Snapshot {
+
+        private final long[] hashes;
+
+        private final BitSet present;
+
+        private Snapshot(int size) {
+            this.hashes = new long[size];
+            this.present = new BitSet(size);
+        }
+
+        private void set(int position, ColumnValue value) {
+            hashes[position] = hash(value);
+            present.set(position);
+        }
+
+        private boolean present(int position) {
+            return present.get(position);
+        }
+
+        private boolean matches(int position, ColumnValue value) {
+            return present.get(position) && hashes[position] == hash(value);
+        }
+    }
+
+    /**
+     * 整型、浮点与布尔直接取值，字符串与二进制使用FNV-1a
+     */
+    private static long hash(ColumnValue value) {
+        long hash = 0xcbf29ce484222325L ^ value.getType().ordinal();
+        switch (value.getType()) {
+            case INTEGER:
+                return hash * 31 + value.asLong();
+            case DOUBLE:
+                return hash * 31 + Double.doubleToLongBits(value.asDouble());
+            case BOOLEAN:
+                return hash * 31 + (value.asBoolean() ? 1 : 0);
+            case STRING: {
+                String string = value.asString();
+                for (int i = 0; i < string.length(); i++) {
+                    hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+                }
+                return hash;
+            }
+            default: {
+                for (byte b : value.asBinary()) {
+                    hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+                }
+                return hash;
+            }
+        }
+    }
+}
@@ -6,10 +6,11 @@ import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
 import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery.KeyType;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodecs;
 import org.springframework.boot.autoconfigure.tablestore.utils.compress.NoCompress;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
@@ -105,30 +106,38 @@ public class ColumnUtils {
     }
 
     public static Object getValue(Column column, OtsColumn otsColumn, Class<?> clazz, Type type) {
-        switch (column.getValue().getType()) {
+        return getValue(column.getValue(), otsColumn, clazz, type);
+    }
+
+    public static Object getValue(ColumnValue value, OtsColumn otsColumn, Class<?> clazz, Type type) {
+        switch (value.getType()) {
             case BINARY:
-                return getValue(column.getValue().asBinary(), otsColumn, clazz);
+                return getValue(value.asBinary(), otsColumn, clazz);
             case INTEGER:
-                return getValue(column.getValue().asLong(), clazz);
+                return getValue(value.asLong(), clazz);
             case DOUBLE:
-                return getValue(column.getValue().asDouble(), clazz);
+                return getValue(value.asDouble(), clazz);
             case BOOLEAN:
-                return getValue(column.getValue().asBoolean(), clazz);
+                return getValue(value.asBoolean(), clazz);
             case STRING:
-                return getValue(column.getValue().asString(), otsColumn, clazz, type);
+                return getValue(value.asString(), otsColumn, clazz, type);
             default:
                 return null;
         }
     }
 
     public static Object getValue(PrimaryKeyColumn column, OtsColumn otsColumn, Class<?> clazz, Type type) {
-        switch (column.getValue().getType()) {
+        return getValue(column.getValue(), otsColumn, clazz, type);
+    }
+
+    public static Object getValue(PrimaryKeyValue value, OtsColumn otsColumn, Class<?> clazz, Type type) {
+        switch (value.getType()) {
             case BINARY:
-                return getValue(column.getValue().asBinary(), otsColumn, clazz);
+                return getValue(value.asBinary(), otsColumn, clazz);
             case INTEGER:
-                return getValue(column.getValue().asLong(), clazz);
+                return getValue(value.asLong(), clazz);
             case STRING:
-                return getValue(column.getValue().asString(), otsColumn, clazz, type);
+                return getValue(value.asString(), otsColumn, clazz, type);
             default:
                 return null;
         }
@@ -541,20 +550,17 @@ public class ColumnUtils {
 
     private static Object getValue(byte[] value, OtsColumn otsColumn, Class<?> clazz) {
         if (otsColumn == null) {
-            return getValue(value, clazz, NoCompress.class);
+            return getValue(value, clazz, NoCompress.INSTANCE);
         } else {
-            return getValue(value, clazz, otsColumn.compress());
+            return getValue(value, clazz, CompressionCodecs.of(otsColumn.compress()));
         }
     }
 
-    private static Object getValue(byte[] value, Class<?> clazz, Class<?> uncompress) {
+    private static Object getValue(byte[] value, Class<?> clazz, CompressionCodec compressionCodec) {
         if (clazz.isAssignableFrom(byte[].class) || clazz.isAssignableFrom(Byte[].class)) {
-            return uncompress(value, uncompress);
+            return compressionCodec.uncompress(value);
         } else if (clazz.isAssignableFrom(String.class)) {
-            byte[] actual = uncompress(value, uncompress);
-            if (actual != null) {
-                return new String(actual, StandardCharsets.UTF_8);
-            }
+            return new String(compressionCodec.uncompress(value), StandardCharsets.UTF_8);
         }
         return null;
     }
@@ -608,16 +614,16 @@ public class ColumnUtils {
 
     private static Object getValue(String value, OtsColumn otsColumn, Class<?> clazz, Type type) {
         if (otsColumn == null) {
-            return getValue(value, clazz, NoCompress.class, type);
+            return getValue(value, clazz, NoCompress.INSTANCE, type);
         } else {
-            return getValue(value, clazz, otsColumn.compress(), type);
+            return getValue(value, clazz, CompressionCodecs.of(otsColumn.compress()), type);
         }
     }
 
-    private static Object getValue(String value, Class<?> clazz, Class<?> uncompress, Type type) {
+    private static Object getValue(String value, Class<?> clazz, CompressionCodec compressionCodec, Type type) {
         if (clazz.isAssignableFrom(byte[].class) || clazz.isAssignableFrom(Byte[].class)) {
             byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-            return uncompress(bytes, uncompress);
+            return compressionCodec.uncompress(bytes);
         } else if (clazz.isAssignableFrom(Short.class) || clazz.isAssignableFrom(short.class)) {
             return Short.parseShort(value);
         } else if (clazz.isAssignableFrom(Integer.class) || clazz.isAssignableFrom(int.class)) {
@@ -654,26 +660,7 @@ public class ColumnUtils {
         if (otsColumn == null) {
             return value;
         }
-        try {
-            Method method = otsColumn.compress().getDeclaredMethod("compress", byte[].class);
-            return (byte[])method.invoke(null, (Object)value);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-
-    private static byte[] uncompress(byte[] value, Class<?> uncompress) {
-        if (uncompress == null) {
-            return value;
-        }
-        try {
-            Method method = uncompress.getDeclaredMethod("uncompress", byte[].class);
-            return (byte[])method.invoke(null, (Object)value);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        return CompressionCodecs.of(otsColumn.compress()).compress(value);
     }
 
     private static PrimaryKeyValue primaryKeyValue(Object value, OtsColumn otsColumn, KeyType keyType, Direction direction) {
@@ -6,12 +6,15 @@ import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
 import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
 import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
 import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 
 /**
@@ -21,6 +24,22 @@ import java.util.Map;
  */
 public class FieldUtils {
 
+    private static final Map<Class<?>, TableMapping> TABLE_MAPPINGS = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 获取类的映射元数据，同一个类只会解析一次
+     *
+     * @param clazz 类类型
+     * @return 映射元数据
+     */
+    public static TableMapping getTableMapping(Class<?> clazz) {
+        TableMapping mapping = TABLE_MAPPINGS.get(clazz);
+        if (mapping == null) {
+            mapping = TABLE_MAPPINGS.computeIfAbsent(clazz, TableMapping::of);
+        }
+        return mapping;
+    }
+
     public static Pair<Map<String, FieldInfo>, Boolean> getDeclaredFields(Class<?> clazz) {
         Map<String, FieldInfo> fieldInfoMap = Maps.newLinkedHashMap();
         boolean hasDynamicField = getDeclaredFields(clazz, fieldInfoMap);
@@ -74,10 +93,13 @@ public class FieldUtils {
     private static boolean getDeclaredFields(Class<?> clazz, Map<String, FieldInfo> fieldMap) {
         Field[] fields = clazz.getDeclaredFields();
         for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
             OtsColumn otsColumn = field.getAnnotation(OtsColumn.class);
             String columnName = ColumnUtils.getColumnName(field.getName(), otsColumn);
             if (!fieldMap.containsKey(field.getName())) {
-                fieldMap.put(columnName, new FieldInfo(otsColumn, field));
+                fieldMap.put(columnName, new FieldInfo(otsColumn, field, columnName));
             }
         }
         Class<?> superClass = clazz.getSuperclass();
@@ -1,12 +1,21 @@
 package org.springframework.boot.autoconfigure.tablestore.utils;
 
 import com.alicloud.openservices.tablestore.model.*;
-import org.apache.commons.lang3.tuple.Pair;
+import com.google.common.collect.Lists;
+import org.apache.commons.collections4.MapUtils;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
 import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.mapper.RowMapper;
+import org.springframework.boot.autoconfigure.tablestore.mapper.RowMappers;
+import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
 import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.BooleanFieldAccessor;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.DoubleFieldAccessor;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.FieldAccessor;
+import org.springframework.boot.autoconfigure.tablestore.utils.accessor.LongFieldAccessor;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,19 +37,38 @@ public class OtsUtils {
         if (row == null) {
             return null;
         }
-        T data;
-        try {
-            data = clazz.getConstructor().newInstance();
-        } catch (InstantiationException | InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-            throw new OtsException("reflect instance error, class: %s, primary key: %s", e, clazz.getName(), row.getPrimaryKey().toString());
+        RowMapper<T> mapper = RowMappers.find(clazz);
+        if (mapper != null) {
+            T data = mapper.fromRow(row);
+            if (ChangeTracker.enabled(clazz)) {
+                ChangeTracker.track(data, row, FieldUtils.getTableMapping(clazz));
+            }
+            return data;
         }
-        Pair<Map<String, FieldInfo>, Boolean> fieldInfos = FieldUtils.getDeclaredFields(data.getClass());
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        T data = newEntity(row, clazz, mapping);
+        ChangeTracker.track(data, row, mapping);
+        return data;
+    }
+
+    private static <T> T newEntity(Row row, Class<T> clazz, TableMapping mapping) {
+        if (mapping.instantiator().requiresValues()) {
+            Object[] values = new Object[mapping.size()];
+            List<Column> dynamicColumns = null;
+            for (PrimaryKeyColumn primaryKeyColumn : row.getPrimaryKey().getPrimaryKeyColumns()) {
+                collect(values, primaryKeyColumn, mapping);
+            }
+            for (Column column : row.getColumns()) {
+                dynamicColumns = collect(values, column, mapping, dynamicColumns);
+            }
+            return clazz.cast(newInstance(mapping, values, row.getPrimaryKey(), dynamicColumns));
+        }
+        T data = clazz.cast(newInstance(mapping, null, row.getPrimaryKey(), null));
         for (PrimaryKeyColumn primaryKeyColumn : row.getPrimaryKey().getPrimaryKeyColumns()) {
-            fill(data, primaryKeyColumn, fieldInfos);
+            fill(data, primaryKeyColumn, mapping);
         }
-        Method addDynamicMethod = fieldInfos.getValue() ? FieldUtils.getMethod(clazz, "addDynamicColumn", String.class, ColumnType.class, Object.class) : null;
         for (Column column : row.getColumns()) {
-            fill(data, column, fieldInfos, addDynamicMethod);
+            fill(data, column, mapping);
         }
         return data;
     }
@@ -57,57 +85,278 @@ public class OtsUtils {
         if (record == null) {
             return null;
         }
-        T data;
-        try {
-            data = clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new OtsException("reflect instance error, class: %s, primary key: %s", e, clazz.getName(), record.getPrimaryKey().toString());
+        RowMapper<T> mapper = RowMappers.find(clazz);
+        if (mapper != null) {
+            return mapper.fromStreamRecord(record);
+        }
+        TableMapping mapping = FieldUtils.getTableMapping(clazz);
+        if (mapping.instantiator().requiresValues()) {
+            Object[] values = new Object[mapping.size()];
+            List<Column> dynamicColumns = null;
+            for (PrimaryKeyColumn primaryKeyColumn : record.getPrimaryKey().getPrimaryKeyColumns()) {
+                collect(values, primaryKeyColumn, mapping);
+            }
+            for (RecordColumn recordColumn : record.getColumns()) {
+                dynamicColumns = collect(values, recordColumn.getColumn(), mapping, dynamicColumns);
+            }
+            return clazz.cast(newInstance(mapping, values, record.getPrimaryKey(), dynamicColumns));
         }
-        Pair<Map<String, FieldInfo>, Boolean> fieldInfos = FieldUtils.getDeclaredFields(data.getClass());
+        T data = clazz.cast(newInstance(mapping, null, record.getPrimaryKey(), null));
         for (PrimaryKeyColumn primaryKeyColumn : record.getPrimaryKey().getPrimaryKeyColumns()) {
-            fill(data, primaryKeyColumn, fieldInfos);
+            fill(data, primaryKeyColumn, mapping);
         }
-        Method addDynamicMethod = fieldInfos.getValue() ? FieldUtils.getMethod(clazz, "addDynamicColumn", String.class, ColumnType.class, Object.class) : null;
         for (RecordColumn recordColumn : record.getColumns()) {
             Column column = recordColumn.getColumn();
-            fill(data, column, fieldInfos, addDynamicMethod);
+            fill(data, column, mapping);
         }
         return data;
     }
 
-    private static <T> void fill(T data, PrimaryKeyColumn column, Pair<Map<String, FieldInfo>, Boolean> fieldInfos) {
-        if (fieldInfos.getKey().containsKey(column.getName())) {
-            FieldInfo fieldInfo = fieldInfos.getKey().get(column.getName());
-            if (fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().readable()) {
-                return;
+    /**
+     * 构造TableStore插入行
+     *
+     * @param data 原始数据
+     * @param <T>  泛型
+     * @return 返回TableStore插入行变更
+     */
+    @SuppressWarnings(value = "unchecked")
+    public static <T> RowPutChange rowPutChange(T data) {
+        RowMapper<T> mapper = RowMappers.find((Class<T>) data.getClass());
+        if (mapper != null) {
+            return mapper.toRowPutChange(data);
+        }
+        TableMapping mapping = FieldUtils.getTableMapping(data.getClass());
+        String tableName = mapping.tableName();
+        List<PrimaryKeyColumn> primaryKeyColumns = Lists.newArrayList();
+        List<Column> columns = Lists.newArrayList();
+
+        for (FieldInfo fieldInfo : mapping.primaryKeys()) {
+            if (!fieldInfo.writable()) {
+                continue;
+            }
+            Object value = fieldInfo.accessor().get(data);
+            if (value != null) {
+                setPrimaryColumns(fieldInfo, value, primaryKeyColumns);
+            }
+        }
+        for (FieldInfo fieldInfo : mapping.columns()) {
+            if (!fieldInfo.writable()) {
+                continue;
+            }
+            Object value = fieldInfo.accessor().get(data);
+            if (value != null) {
+                setColumns(fieldInfo, value, columns);
             }
-            Object value = ColumnUtils.getValue(column, fieldInfo.otsColumn(), fieldInfo.field().getType(), fieldInfo.field().getGenericType());
-            FieldUtils.invokeWrite(fieldInfo.field(), data, value);
         }
+        if (mapping.dynamic()) {
+            Map<String, Object> values = ((DynamicColumn) data).getDynamicColumns();
+            if (MapUtils.isNotEmpty(values)) {
+                values.forEach((key, value) -> {
+                    if (value != null) {
+                        setColumns(null, key, value, columns);
+                    }
+                });
+            }
+        }
+        RowPutChange rowPutChange = new RowPutChange(tableName, new PrimaryKey(primaryKeyColumns));
+        rowPutChange.addColumns(columns);
+        return rowPutChange;
     }
 
-    private static <T> void fill(T data, Column column, Pair<Map<String, FieldInfo>, Boolean> fieldInfos, Method method) {
-        if (fieldInfos.getKey().containsKey(column.getName())) {
-            FieldInfo fieldInfo = fieldInfos.getKey().get(column.getName());
-            if (fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().readable()) {
-                return;
+    /**
+     * 构造TableStore更新行，开启修改跟踪且由读取得到的对象只包含修改过的列
+     *
+     * @param data       原始数据
+     * @param deleteNull 是否删除为Null字段
+     * @param <T>        泛型
+     * @return 返回TableStore更新行变更
+     */
+    @SuppressWarnings(value = "unchecked")
+    public static <T> RowUpdateChange rowUpdateChange(T data, boolean deleteNull) {
+        RowMapper<T> mapper = RowMappers.find((Class<T>) data.getClass());
+        if (mapper != null) {
+            RowUpdateChange rowUpdateChange = mapper.toRowUpdateChange(data, deleteNull);
+            if (!ChangeTracker.enabled(data.getClass())) {
+                return rowUpdateChange;
+            }
+            return ChangeTracker.diff(data, rowUpdateChange, FieldUtils.getTableMapping(data.getClass()));
+        }
+        TableMapping mapping = FieldUtils.getTableMapping(data.getClass());
+        String tableName = mapping.tableName();
+        RowUpdateChange rowUpdateChange = new RowUpdateChange(tableName);
+
+        List<PrimaryKeyColumn> primaryKeyColumns = Lists.newArrayList();
+        List<Column> columns = Lists.newArrayList();
+
+        for (FieldInfo fieldInfo : mapping.primaryKeys()) {
+            if (!fieldInfo.writable()) {
+                continue;
+            }
+            Object value = fieldInfo.accessor().get(data);
+            if (value != null) {
+                setPrimaryColumns(fieldInfo, value, primaryKeyColumns);
             }
-            Object value = ColumnUtils.getValue(column, fieldInfo.otsColumn(), fieldInfo.field().getType(), fieldInfo.field().getGenericType());
-            FieldUtils.invokeWrite(fieldInfo.field(), data, value);
+        }
+        for (FieldInfo fieldInfo : mapping.columns()) {
+            if (!fieldInfo.writable()) {
+                continue;
+            }
+            Object value = fieldInfo.accessor().get(data);
+            if (value == null) {
+                if (deleteNull && fieldInfo.otsColumn() != null) {
+                    rowUpdateChange.deleteColumns(fieldInfo.columnName());
+                }
+                continue;
+            }
+            setColumns(fieldInfo, value, columns);
+        }
+
+        if (mapping.dynamic()) {
+            Map<String, Object> values = ((DynamicColumn) data).getDynamicColumns();
+            if (MapUtils.isNotEmpty(values)) {
+                values.forEach((key, value) -> {
+                    if (value == null) {
+                        if (deleteNull) {
+                            rowUpdateChange.deleteColumns(key);
+                        }
+                    } else {
+                        setColumns(null, key, value, columns);
+                    }
+                });
+            }
+        }
+
+        rowUpdateChange.setPrimaryKey(new PrimaryKey(primaryKeyColumns));
+        rowUpdateChange.put(columns);
+        return ChangeTracker.diff(data, rowUpdateChange, mapping);
+    }
+
+    public static void setPrimaryColumns(FieldInfo fieldInfo, Object value, List<PrimaryKeyColumn> primaryKeyColumns) {
+        PrimaryKeyValue primaryKeyValue;
+        if (fieldInfo.otsColumn().autoIncrease() && value == null) {
+            primaryKeyValue = PrimaryKeyValue.AUTO_INCREMENT;
+        } else {
+            primaryKeyValue = fieldInfo.codec().encodePrimaryKey(value);
+        }
+        if (primaryKeyValue != null) {
+            primaryKeyColumns.add(new PrimaryKeyColumn(fieldInfo.columnName(), primaryKeyValue));
+        } else {
+            throw new OtsException("primary key config error, primary column: %s", fieldInfo.columnName());
+        }
+    }
+
+    public static void setColumns(FieldInfo fieldInfo, Object value, List<Column> columns) {
+        ColumnValue columnValue = fieldInfo.codec().encode(value);
+        if (columnValue != null) {
+            columns.add(new Column(fieldInfo.columnName(), columnValue));
         } else {
-            if (fieldInfos.getValue() && method != null) {
+            throw new OtsException("column config error, column: %s", fieldInfo.columnName());
+        }
+    }
+
+    public static void setColumns(OtsColumn otsColumn, String columnName, Object value, List<Column> columns) {
+        ColumnValue columnValue = ColumnUtils.getColumnValue(value, otsColumn);
+        if (columnValue != null) {
+            columns.add(new Column(columnName, columnValue));
+        } else {
+            throw new OtsException("column config error, column: %s", columnName);
+        }
+    }
+
+    /**
+     * 实例化结果类，values为null时使用无参构造方法，不可变对象构造完成后再写入动态列
+     */
+    private static Object newInstance(TableMapping mapping, Object[] values, PrimaryKey primaryKey, List<Column> dynamicColumns) {
+        Object data;
+        try {
+            data = values == null ? mapping.instantiator().newInstance() : mapping.instantiator().newInstance(values);
+        } catch (RuntimeException e) {
+            throw new OtsException("reflect instance error, class: %s, primary key: %s", e, mapping.clazz().getName(), primaryKey.toString());
+        }
+        if (dynamicColumns != null) {
+            for (Column column : dynamicColumns) {
                 Object value = ColumnUtils.getValue(column);
-                FieldUtils.invoke(method, data, column.getName(), column.getValue().getType(), value);
+                FieldUtils.invoke(mapping.addDynamicColumnMethod(), data, column.getName(), column.getValue().getType(), value);
+            }
+        }
+        return data;
+    }
+
+    private static void collect(Object[] values, PrimaryKeyColumn column, TableMapping mapping) {
+        int position = mapping.position(column.getName());
+        if (position < 0) {
+            return;
+        }
+        FieldInfo fieldInfo = mapping.fieldInfo(position);
+        if (fieldInfo.readable()) {
+            values[position] = fieldInfo.codec().decode(column.getValue());
+        }
+    }
+
+    /**
+     * @return 待写入的动态列
+     */
+    private static List<Column> collect(Object[] values, Column column, TableMapping mapping, List<Column> dynamicColumns) {
+        int position = mapping.position(column.getName());
+        if (position >= 0) {
+            FieldInfo fieldInfo = mapping.fieldInfo(position);
+            if (fieldInfo.readable()) {
+                values[position] = fieldInfo.codec().decode(column.getValue());
             }
+        } else if (mapping.addDynamicColumnMethod() != null) {
+            if (dynamicColumns == null) {
+                dynamicColumns = Lists.newArrayList();
+            }
+            dynamicColumns.add(column);
         }
+        return dynamicColumns;
     }
 
-    private <T> void fill(T data, Column column, Pair<Map<String, FieldInfo>, Boolean> fieldInfos) {
-        FieldInfo fieldInfo = fieldInfos.getKey().get(column.getName());
-        if (fieldInfo.otsColumn() != null && !fieldInfo.otsColumn().readable()) {
+    private static <T> void fill(T data, PrimaryKeyColumn column, TableMapping mapping) {
+        FieldInfo fieldInfo = mapping.fieldInfo(column.getName());
+        if (fieldInfo == null || !fieldInfo.readable()) {
+            return;
+        }
+        FieldAccessor accessor = fieldInfo.accessor();
+        if (accessor instanceof LongFieldAccessor && column.getValue().getType() == PrimaryKeyType.INTEGER) {
+            ((LongFieldAccessor) accessor).setLong(data, column.getValue().asLong());
             return;
         }
-        Object value = ColumnUtils.getValue(column, fieldInfo.otsColumn(), fieldInfo.field().getType(), fieldInfo.field().getGenericType());
-        FieldUtils.invokeWrite(fieldInfo.field(), data, value);
+        accessor.set(data, fieldInfo.codec().decode(column.getValue()));
+    }
+
+    private static <T> void fill(T data, Column column, TableMapping mapping) {
+        FieldInfo fieldInfo = mapping.fieldInfo(column.getName());
+        if (fieldInfo != null) {
+            if (!fieldInfo.readable()) {
+                return;
+            }
+            if (fill(data, column.getValue(), fieldInfo.accessor())) {
+                return;
+            }
+            fieldInfo.accessor().set(data, fieldInfo.codec().decode(column.getValue()));
+        } else if (mapping.addDynamicColumnMethod() != null) {
+            Object value = ColumnUtils.getValue(column);
+            FieldUtils.invoke(mapping.addDynamicColumnMethod(), data, column.getName(), column.getValue().getType(), value);
+        }
+    }
+
+    /**
+     * 基本类型字段与存储类型一致时直接写入，不经过装箱
+     *
+     * @return 是否已写入
+     */
+    private static <T> boolean fill(T data, ColumnValue value, FieldAccessor accessor) {
+        if (accessor instanceof LongFieldAccessor && value.getType() == ColumnType.INTEGER) {
+            ((LongFieldAccessor) accessor).setLong(data, value.asLong());
+            return true;
+        } else if (accessor instanceof DoubleFieldAccessor && value.getType() == ColumnType.DOUBLE) {
+            ((DoubleFieldAccessor) accessor).setDouble(data, value.asDouble());
+            return true;
+        } else if (accessor instanceof BooleanFieldAccessor && value.getType() == ColumnType.BOOLEAN) {
+            ((BooleanFieldAccessor) accessor).setBoolean(data, value.asBoolean());
+            return true;
+        }
+        return false;
     }
 }
@@ -0,0 +1,49 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+import java.util.function.Predicate;
+
+/**
+ * boolean类型字段读写器，{@link #getBoolean(Object)}与{@link #setBoolean(Object, boolean)}不装箱
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class BooleanFieldAccessor implements FieldAccessor {
+
+    private final Predicate<Object> getter;
+
+    private final ObjBooleanConsumer setter;
+
+    BooleanFieldAccessor(Predicate<Object> getter, ObjBooleanConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public boolean getBoolean(Object target) {
+        return getter.test(target);
+    }
+
+    public void setBoolean(Object target, boolean value) {
+        setter.accept(target, value);
+    }
+
+    @Override
+    public Object get(Object target) {
+        return getter.test(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (value == null) {
+            return;
+        }
+        setter.accept(target, (Boolean) value);
+    }
+
+    @FunctionalInterface
+    public interface ObjBooleanConsumer {
+
+        void accept(Object target, boolean value);
+    }
+}
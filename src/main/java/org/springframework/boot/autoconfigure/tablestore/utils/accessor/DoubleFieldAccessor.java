@@ -0,0 +1,44 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * double类型字段读写器，{@link #getDouble(Object)}与{@link #setDouble(Object, double)}不装箱
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class DoubleFieldAccessor implements FieldAccessor {
+
+    private final ToDoubleFunction<Object> getter;
+
+    private final ObjDoubleConsumer<Object> setter;
+
+    DoubleFieldAccessor(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public double getDouble(Object target) {
+        return getter.applyAsDouble(target);
+    }
+
+    public void setDouble(Object target, double value) {
+        setter.accept(target, value);
+    }
+
+    @Override
+    public Object get(Object target) {
+        return getter.applyAsDouble(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (value == null) {
+            return;
+        }
+        setter.accept(target, ((Number) value).doubleValue());
+    }
+}
@@ -0,0 +1,27 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+/**
+ * 字段读写器，每个映射字段生成一个，替代反射读写
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface FieldAccessor {
+
+    /**
+     * 读取字段值，基本类型会被装箱
+     *
+     * @param target 目标对象
+     * @return 字段值
+     */
+    Object get(Object target);
+
+    /**
+     * 写入字段值，基本类型字段写入null时忽略
+     *
+     * @param target 目标对象
+     * @param value  字段值
+     */
+    void set(Object target, Object value);
+}
@@ -0,0 +1,175 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 字段读写器工厂
+ * <p>
+ * 通过{@link MethodHandles.Lookup#unreflectGetter(Field)}与{@link MethodHandles.Lookup#unreflectSetter(Field)}直接读写字段，
+ * 与反射读写的语义一致，不经过getter/setter；long、double、boolean字段生成不装箱的专用读写器
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class FieldAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    public static FieldAccessor of(Field field) {
+        ReflectionUtils.makeAccessible(field);
+        Class<?> type = field.getType();
+        if (type == long.class) {
+            return new LongFieldAccessor(longGetter(field), longSetter(field));
+        } else if (type == double.class) {
+            return new DoubleFieldAccessor(doubleGetter(field), doubleSetter(field));
+        } else if (type == boolean.class) {
+            return new BooleanFieldAccessor(booleanGetter(field), booleanSetter(field));
+        } else {
+            return new ObjectFieldAccessor(objectGetter(field), objectSetter(field), type.isPrimitive());
+        }
+    }
+
+    private static ToLongFunction<Object> longGetter(Field field) {
+        MethodHandle handle = fieldGetter(field).asType(MethodType.methodType(long.class, Object.class));
+        return target -> {
+            try {
+                return (long) handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static ObjLongConsumer<Object> longSetter(Field field) {
+        MethodHandle handle = fieldSetter(field);
+        if (handle == null) {
+            return (target, value) -> ReflectionUtils.setField(field, target, value);
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(void.class, Object.class, long.class));
+        return (target, value) -> {
+            try {
+                exact.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Object> doubleGetter(Field field) {
+        MethodHandle handle = fieldGetter(field).asType(MethodType.methodType(double.class, Object.class));
+        return target -> {
+            try {
+                return (double) handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static ObjDoubleConsumer<Object> doubleSetter(Field field) {
+        MethodHandle handle = fieldSetter(field);
+        if (handle == null) {
+            return (target, value) -> ReflectionUtils.setField(field, target, value);
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(void.class, Object.class, double.class));
+        return (target, value) -> {
+            try {
+                exact.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static Predicate<Object> booleanGetter(Field field) {
+        MethodHandle handle = fieldGetter(field).asType(MethodType.methodType(boolean.class, Object.class));
+        return target -> {
+            try {
+                return (boolean) handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static BooleanFieldAccessor.ObjBooleanConsumer booleanSetter(Field field) {
+        MethodHandle handle = fieldSetter(field);
+        if (handle == null) {
+            return (target, value) -> ReflectionUtils.setField(field, target, value);
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+        return (target, value) -> {
+            try {
+                exact.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static Function<Object, Object> objectGetter(Field field) {
+        MethodHandle handle = fieldGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        return target -> {
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> objectSetter(Field field) {
+        MethodHandle handle = fieldSetter(field);
+        if (handle == null) {
+            return (target, value) -> ReflectionUtils.setField(field, target, value);
+        }
+        MethodHandle exact = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (target, value) -> {
+            try {
+                exact.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw invokeError(field, e);
+            }
+        };
+    }
+
+    private static MethodHandle fieldGetter(Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new OtsException("reflect error, class: %s, field: %s", e, field.getDeclaringClass().getName(), field.getName());
+        }
+    }
+
+    /**
+     * final字段无法生成写句柄，返回null，由调用方退化为反射写入
+     */
+    private static MethodHandle fieldSetter(Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static RuntimeException invokeError(Field field, Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new OtsException("reflect error, class: %s, field: %s", e, field.getDeclaringClass().getName(), field.getName());
+    }
+}
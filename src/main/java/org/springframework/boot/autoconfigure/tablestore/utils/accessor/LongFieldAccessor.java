@@ -0,0 +1,44 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * long类型字段读写器，{@link #getLong(Object)}与{@link #setLong(Object, long)}不装箱
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class LongFieldAccessor implements FieldAccessor {
+
+    private final ToLongFunction<Object> getter;
+
+    private final ObjLongConsumer<Object> setter;
+
+    LongFieldAccessor(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public long getLong(Object target) {
+        return getter.applyAsLong(target);
+    }
+
+    public void setLong(Object target, long value) {
+        setter.accept(target, value);
+    }
+
+    @Override
+    public Object get(Object target) {
+        return getter.applyAsLong(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (value == null) {
+            return;
+        }
+        setter.accept(target, ((Number) value).longValue());
+    }
+}
@@ -0,0 +1,37 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.accessor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class ObjectFieldAccessor implements FieldAccessor {
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    private final boolean primitive;
+
+    ObjectFieldAccessor(Function<Object, Object> getter, BiConsumer<Object, Object> setter, boolean primitive) {
+        this.getter = getter;
+        this.setter = setter;
+        this.primitive = primitive;
+    }
+
+    @Override
+    public Object get(Object target) {
+        return getter.apply(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        if (value == null && primitive) {
+            return;
+        }
+        setter.accept(target, value);
+    }
+}
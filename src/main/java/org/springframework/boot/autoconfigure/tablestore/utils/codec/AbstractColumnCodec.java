@@ -0,0 +1,71 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 按存储值类型分派解码，子类只需实现支持的类型
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public abstract class AbstractColumnCodec implements ColumnCodec {
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return null;
+    }
+
+    @Override
+    public Object decode(ColumnValue value) {
+        switch (value.getType()) {
+            case BINARY:
+                return decodeBinary(value.asBinary());
+            case INTEGER:
+                return decodeLong(value.asLong());
+            case DOUBLE:
+                return decodeDouble(value.asDouble());
+            case BOOLEAN:
+                return decodeBoolean(value.asBoolean());
+            case STRING:
+                return decodeString(value.asString());
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Object decode(PrimaryKeyValue value) {
+        switch (value.getType()) {
+            case BINARY:
+                return decodeBinary(value.asBinary());
+            case INTEGER:
+                return decodeLong(value.asLong());
+            case STRING:
+                return decodeString(value.asString());
+            default:
+                return null;
+        }
+    }
+
+    protected Object decodeBinary(byte[] value) {
+        return null;
+    }
+
+    protected Object decodeLong(long value) {
+        return null;
+    }
+
+    protected Object decodeDouble(double value) {
+        return null;
+    }
+
+    protected Object decodeBoolean(boolean value) {
+        return null;
+    }
+
+    protected Object decodeString(String value) {
+        return null;
+    }
+}
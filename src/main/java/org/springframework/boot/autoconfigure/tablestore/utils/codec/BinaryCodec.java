@@ -0,0 +1,31 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字节数组字段解码
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public abstract class BinaryCodec extends AbstractColumnCodec {
+
+    protected final CompressionCodec compress;
+
+    protected BinaryCodec(CompressionCodec compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    protected Object decodeBinary(byte[] value) {
+        return compress.uncompress(value);
+    }
+
+    @Override
+    protected Object decodeString(String value) {
+        return compress.uncompress(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
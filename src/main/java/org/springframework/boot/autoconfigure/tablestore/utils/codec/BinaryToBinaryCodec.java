@@ -0,0 +1,29 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+/**
+ * 字节数组字段压缩后以BINARY存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class BinaryToBinaryCodec extends BinaryCodec {
+
+    public BinaryToBinaryCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromBinary(compress.compress((byte[]) value));
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromBinary(compress.compress((byte[]) value));
+    }
+}
@@ -0,0 +1,31 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字节数组字段压缩后按UTF-8解码以STRING存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class BinaryToStringCodec extends BinaryCodec {
+
+    public BinaryToStringCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromString(new String(compress.compress((byte[]) value), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromString(new String(compress.compress((byte[]) value), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,21 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+/**
+ * 布尔字段解码
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public abstract class BooleanCodec extends AbstractColumnCodec {
+
+    @Override
+    protected Object decodeBoolean(boolean value) {
+        return value;
+    }
+
+    @Override
+    protected Object decodeString(String value) {
+        return Boolean.parseBoolean(value);
+    }
+}
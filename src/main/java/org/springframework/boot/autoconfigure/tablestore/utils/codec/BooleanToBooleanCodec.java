@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 布尔字段以BOOLEAN存储，主键不支持BOOLEAN，未指定存储类型的主键以STRING存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class BooleanToBooleanCodec extends BooleanCodec {
+
+    private final boolean stringPrimaryKey;
+
+    public BooleanToBooleanCodec(boolean stringPrimaryKey) {
+        this.stringPrimaryKey = stringPrimaryKey;
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromBoolean((Boolean) value);
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return stringPrimaryKey ? PrimaryKeyValue.fromString(value.toString()) : null;
+    }
+}
@@ -0,0 +1,24 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 布尔字段以STRING存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class BooleanToStringCodec extends BooleanCodec {
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromString(value.toString());
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromString(value.toString());
+    }
+}
@@ -0,0 +1,46 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 列编解码器，构建映射时根据字段声明类型与{@link org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType}确定
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface ColumnCodec {
+
+    /**
+     * 字段值编码为属性列值
+     *
+     * @param value 字段值，非null
+     * @return 属性列值，类型配置不支持时返回null
+     */
+    ColumnValue encode(Object value);
+
+    /**
+     * 字段值编码为主键列值
+     *
+     * @param value 字段值，非null
+     * @return 主键列值，类型配置不支持时返回null
+     */
+    PrimaryKeyValue encodePrimaryKey(Object value);
+
+    /**
+     * 属性列值解码为字段值
+     *
+     * @param value 属性列值
+     * @return 字段值，无法转换时返回null
+     */
+    Object decode(ColumnValue value);
+
+    /**
+     * 主键列值解码为字段值
+     *
+     * @param value 主键列值
+     * @return 字段值，无法转换时返回null
+     */
+    Object decode(PrimaryKeyValue value);
+}
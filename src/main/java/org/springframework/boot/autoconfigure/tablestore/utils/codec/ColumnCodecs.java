@@ -0,0 +1,111 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodecs;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.NoCompress;
+
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 根据字段声明类型与存储类型解析列编解码器
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ColumnCodecs {
+
+    /**
+     * ColumnUtils按字段类型转换时依次判断的类型，字段类型是其中任一类型的父类型时无法在构建映射时确定转换方式
+     */
+    private static final Class<?>[] CANDIDATES = {
+            byte[].class, Byte[].class, Byte.class, byte.class, Short.class, short.class, Integer.class, int.class,
+            Long.class, long.class, Float.class, float.class, Double.class, double.class, char[].class, Charset[].class,
+            Boolean.class, boolean.class, String.class, List.class, Map.class
+    };
+
+    /**
+     * 解析字段的列编解码器
+     *
+     * @param otsColumn 字段注解，可为null
+     * @param clazz     字段类型
+     * @param type      字段泛型类型
+     * @return 列编解码器
+     */
+    public static ColumnCodec of(OtsColumn otsColumn, Class<?> clazz, Type type) {
+        OtsColumnType columnType = otsColumn == null ? OtsColumnType.NONE : otsColumn.type();
+        CompressionCodec compress = otsColumn == null ? NoCompress.INSTANCE : CompressionCodecs.of(otsColumn.compress());
+        ColumnCodec codec = resolve(columnType, compress, clazz, type);
+        return codec == null ? new DynamicColumnCodec(otsColumn, clazz, type) : codec;
+    }
+
+    private static ColumnCodec resolve(OtsColumnType columnType, CompressionCodec compress, Class<?> clazz, Type type) {
+        NumberType numberType = NumberType.of(clazz);
+        if (numberType != null) {
+            switch (columnType) {
+                case NONE:
+                    return numberType.integral() ? new NumberToIntegerCodec(numberType) : new NumberToDoubleCodec(numberType, true);
+                case INTEGER:
+                    return numberType.integral() ? new NumberToIntegerCodec(numberType) : null;
+                case DOUBLE:
+                    return new NumberToDoubleCodec(numberType, false);
+                case STRING:
+                    return new NumberToStringCodec(numberType);
+                default:
+                    return null;
+            }
+        } else if (clazz == boolean.class || clazz == Boolean.class) {
+            switch (columnType) {
+                case NONE:
+                    return new BooleanToBooleanCodec(true);
+                case BOOLEAN:
+                    return new BooleanToBooleanCodec(false);
+                case STRING:
+                    return new BooleanToStringCodec();
+                default:
+                    return null;
+            }
+        } else if (clazz == String.class) {
+            switch (columnType) {
+                case NONE:
+                case STRING:
+                    return new StringToStringCodec(compress);
+                case INTEGER:
+                    return new StringToIntegerCodec(compress);
+                case DOUBLE:
+                    return new StringToDoubleCodec(compress);
+                case BOOLEAN:
+                    return new StringToBooleanCodec(compress);
+                case BINARY:
+                    return new StringToBinaryCodec(compress);
+                default:
+                    return null;
+            }
+        } else if (clazz == byte[].class) {
+            switch (columnType) {
+                case NONE:
+                case BINARY:
+                    return new BinaryToBinaryCodec(compress);
+                case STRING:
+                    return new BinaryToStringCodec(compress);
+                default:
+                    return null;
+            }
+        } else if (columnType != OtsColumnType.NONE && columnType != OtsColumnType.STRING) {
+            return null;
+        } else if (clazz == List.class || clazz == Map.class) {
+            return new SerializerCodec(clazz, type);
+        }
+        for (Class<?> candidate : CANDIDATES) {
+            if (clazz.isAssignableFrom(candidate)) {
+                return null;
+            }
+        }
+        return new SerializerCodec(clazz, type);
+    }
+}
@@ -0,0 +1,50 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+
+import java.lang.reflect.Type;
+
+/**
+ * 字段声明类型无法唯一确定编解码方式时(如Object、Number、Collection)，按运行时值类型转换
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class DynamicColumnCodec implements ColumnCodec {
+
+    private final OtsColumn otsColumn;
+
+    private final Class<?> clazz;
+
+    private final Type type;
+
+    public DynamicColumnCodec(OtsColumn otsColumn, Class<?> clazz, Type type) {
+        this.otsColumn = otsColumn;
+        this.clazz = clazz;
+        this.type = type;
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnUtils.getColumnValue(value, otsColumn);
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return ColumnUtils.getPrimaryKeyValue(value, otsColumn);
+    }
+
+    @Override
+    public Object decode(ColumnValue value) {
+        return ColumnUtils.getValue(value, otsColumn, clazz, type);
+    }
+
+    @Override
+    public Object decode(PrimaryKeyValue value) {
+        return ColumnUtils.getValue(value, otsColumn, clazz, type);
+    }
+}
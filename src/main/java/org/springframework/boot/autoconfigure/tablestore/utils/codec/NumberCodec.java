@@ -0,0 +1,32 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+/**
+ * 数值字段解码
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public abstract class NumberCodec extends AbstractColumnCodec {
+
+    protected final NumberType numberType;
+
+    protected NumberCodec(NumberType numberType) {
+        this.numberType = numberType;
+    }
+
+    @Override
+    protected Object decodeLong(long value) {
+        return numberType.fromLong(value);
+    }
+
+    @Override
+    protected Object decodeDouble(double value) {
+        return numberType.fromDouble(value);
+    }
+
+    @Override
+    protected Object decodeString(String value) {
+        return numberType.parse(value);
+    }
+}
@@ -0,0 +1,31 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 数值字段以DOUBLE存储，主键不支持DOUBLE，未指定存储类型的浮点主键以STRING存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class NumberToDoubleCodec extends NumberCodec {
+
+    private final boolean stringPrimaryKey;
+
+    public NumberToDoubleCodec(NumberType numberType, boolean stringPrimaryKey) {
+        super(numberType);
+        this.stringPrimaryKey = stringPrimaryKey;
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromDouble(((Number) value).doubleValue());
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return stringPrimaryKey ? PrimaryKeyValue.fromString(value.toString()) : null;
+    }
+}
@@ -0,0 +1,28 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 整数字段以INTEGER存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class NumberToIntegerCodec extends NumberCodec {
+
+    public NumberToIntegerCodec(NumberType numberType) {
+        super(numberType);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromLong(((Number) value).longValue());
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromLong(((Number) value).longValue());
+    }
+}
@@ -0,0 +1,28 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 数值字段以STRING存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class NumberToStringCodec extends NumberCodec {
+
+    public NumberToStringCodec(NumberType numberType) {
+        super(numberType);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromString(value.toString());
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromString(value.toString());
+    }
+}
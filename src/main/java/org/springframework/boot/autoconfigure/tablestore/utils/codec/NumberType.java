@@ -0,0 +1,123 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+/**
+ * 数值字段类型，负责存储值到字段类型的收窄转换
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public enum NumberType {
+
+    SHORT(true) {
+        @Override
+        Object fromLong(long value) {
+            return (short) value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return (short) (int) value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return Short.parseShort(value);
+        }
+    },
+    INTEGER(true) {
+        @Override
+        Object fromLong(long value) {
+            return (int) value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return (int) value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return Integer.parseInt(value);
+        }
+    },
+    LONG(true) {
+        @Override
+        Object fromLong(long value) {
+            return value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return (long) value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return Long.parseLong(value);
+        }
+    },
+    FLOAT(false) {
+        @Override
+        Object fromLong(long value) {
+            return (float) value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return (float) value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return Float.parseFloat(value);
+        }
+    },
+    DOUBLE(false) {
+        @Override
+        Object fromLong(long value) {
+            return (double) value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return Double.parseDouble(value);
+        }
+    };
+
+    private final boolean integral;
+
+    NumberType(boolean integral) {
+        this.integral = integral;
+    }
+
+    public boolean integral() {
+        return integral;
+    }
+
+    abstract Object fromLong(long value);
+
+    abstract Object fromDouble(double value);
+
+    abstract Object parse(String value);
+
+    public static NumberType of(Class<?> clazz) {
+        if (clazz == short.class || clazz == Short.class) {
+            return SHORT;
+        } else if (clazz == int.class || clazz == Integer.class) {
+            return INTEGER;
+        } else if (clazz == long.class || clazz == Long.class) {
+            return LONG;
+        } else if (clazz == float.class || clazz == Float.class) {
+            return FLOAT;
+        } else if (clazz == double.class || clazz == Double.class) {
+            return DOUBLE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnReader;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializer;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnSerializers;
+import org.springframework.boot.autoconfigure.tablestore.utils.serializer.ColumnWriter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 对象、List、Map字段，通过{@link ColumnSerializer}序列化后存储，读写器按字段类型解析并缓存
+ * <p>
+ * 未指定序列化方式时，每次读写使用{@link ColumnSerializers#getDefault()}，全局序列化方式变化后重新解析读写器，
+ * 映射缓存因此不会固定构建映射时的序列化方式
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class SerializerCodec extends AbstractColumnCodec {
+
+    private final ColumnSerializer serializer;
+
+    private final Class<?> clazz;
+
+    private final Type type;
+
+    private volatile Binding binding;
+
+    /**
+     * 使用全局序列化方式
+     */
+    public SerializerCodec(Class<?> clazz, Type type) {
+        this(null, clazz, type);
+    }
+
+    /**
+     * @param serializer 固定的序列化方式，为null时使用全局序列化方式
+     */
+    public SerializerCodec(ColumnSerializer serializer, Class<?> clazz, Type type) {
+        this.serializer = serializer;
+        this.clazz = clazz;
+        this.type = type;
+        if (serializer != null) {
+            this.binding = new Binding(serializer, clazz, type);
+        }
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return binding().writer.write(value);
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return binding().writer.writePrimaryKey(value);
+    }
+
+    @Override
+    protected Object decodeString(String value) {
+        return binding().reader.read(value);
+    }
+
+    @Override
+    protected Object decodeBinary(byte[] value) {
+        return binding().reader.read(value);
+    }
+
+    private Binding binding() {
+        Binding current = binding;
+        if (serializer != null) {
+            return current;
+        }
+        ColumnSerializer global = ColumnSerializers.getDefault();
+        if (current == null || current.serializer != global) {
+            current = new Binding(global, clazz, type);
+            binding = current;
+        }
+        return current;
+    }
+
+    private static final class Binding {
+
+        private final ColumnSerializer serializer;
+
+        private final ColumnWriter writer;
+
+        private final ColumnReader reader;
+
+        private Binding(ColumnSerializer serializer, Class<?> clazz, Type type) {
+            this.serializer = serializer;
+            this.writer = serializer.writer(clazz, type);
+            this.reader = serializer.reader(clazz, type);
+        }
+    }
+}
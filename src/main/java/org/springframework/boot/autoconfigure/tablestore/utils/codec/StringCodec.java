@@ -0,0 +1,46 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字符串字段解码
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public abstract class StringCodec extends AbstractColumnCodec {
+
+    protected final CompressionCodec compress;
+
+    protected StringCodec(CompressionCodec compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    protected Object decodeBinary(byte[] value) {
+        return new String(compress.uncompress(value), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected Object decodeLong(long value) {
+        return String.valueOf(value);
+    }
+
+    @Override
+    protected Object decodeDouble(double value) {
+        return String.valueOf(value);
+    }
+
+    @Override
+    protected Object decodeBoolean(boolean value) {
+        return String.valueOf(value);
+    }
+
+    @Override
+    protected Object decodeString(String value) {
+        return value;
+    }
+}
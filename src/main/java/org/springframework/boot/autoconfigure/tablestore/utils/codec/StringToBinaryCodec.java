@@ -0,0 +1,31 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字符串字段按UTF-8编码压缩后以BINARY存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class StringToBinaryCodec extends StringCodec {
+
+    public StringToBinaryCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromBinary(compress.compress(((String) value).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromBinary(compress.compress(((String) value).getBytes(StandardCharsets.UTF_8)));
+    }
+}
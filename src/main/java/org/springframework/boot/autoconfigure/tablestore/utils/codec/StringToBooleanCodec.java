@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+/**
+ * 字符串字段以BOOLEAN存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class StringToBooleanCodec extends StringCodec {
+
+    public StringToBooleanCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromBoolean(Boolean.parseBoolean((String) value));
+    }
+}
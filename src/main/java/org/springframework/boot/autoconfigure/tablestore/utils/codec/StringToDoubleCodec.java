@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+/**
+ * 字符串字段以DOUBLE存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class StringToDoubleCodec extends StringCodec {
+
+    public StringToDoubleCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromDouble(Double.parseDouble((String) value));
+    }
+}
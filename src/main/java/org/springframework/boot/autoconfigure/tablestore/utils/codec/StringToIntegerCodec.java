@@ -0,0 +1,29 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.codec;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.CompressionCodec;
+
+/**
+ * 字符串字段以INTEGER存储
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class StringToIntegerCodec extends StringCodec {
+
+    public StringToIntegerCodec(CompressionCodec compress) {
+        super(compress);
+    }
+
+    @Override
+    public ColumnValue encode(Object value) {
+        return ColumnValue.fromLong(Long.parseLong((String) value));
+    }
+
+    @Override
+    public PrimaryKeyValue encodePrimaryKey(Object value) {
+        return PrimaryKeyValue.fromLong(Long.parseLong((String) value));
+    }
+}
@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.compress;
+
+/**
+ * 列值压缩算法，通过{@link org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn#compress()}指定，
+ * 每个实现类只创建一个实例，实现需无状态且线程安全，并提供无参构造方法
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface CompressionCodec {
+
+    /**
+     * 压缩
+     *
+     * @param input 原始字节
+     * @return 压缩后字节
+     * @throws org.springframework.boot.autoconfigure.tablestore.exception.OtsCompressException 压缩失败
+     */
+    byte[] compress(byte[] input);
+
+    /**
+     * 解压
+     *
+     * @param input 压缩后字节
+     * @return 原始字节
+     * @throws org.springframework.boot.autoconfigure.tablestore.exception.OtsCompressException 解压失败
+     */
+    byte[] uncompress(byte[] input);
+}
@@ -0,0 +1,49 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.compress;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Map;
+
+/**
+ * 压缩算法实例，按类缓存
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class CompressionCodecs {
+
+    private static final Map<Class<?>, CompressionCodec> CODECS = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 获取压缩算法实例
+     *
+     * @param clazz 压缩算法类型
+     * @return 压缩算法实例
+     */
+    public static CompressionCodec of(Class<? extends CompressionCodec> clazz) {
+        CompressionCodec codec = CODECS.get(clazz);
+        if (codec == null) {
+            codec = CODECS.computeIfAbsent(clazz, CompressionCodecs::instance);
+        }
+        return codec;
+    }
+
+    private static CompressionCodec instance(Class<?> clazz) {
+        if (clazz == NoCompress.class) {
+            return NoCompress.INSTANCE;
+        } else if (clazz == GzipCompress.class) {
+            return GzipCompress.INSTANCE;
+        } else if (clazz == DeflateCompress.class) {
+            return DeflateCompress.INSTANCE;
+        } else if (clazz == SnappyCompress.class) {
+            return SnappyCompress.INSTANCE;
+        }
+        try {
+            return (CompressionCodec) clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new OtsException("compress instance error, class: %s", e, clazz.getName());
+        }
+    }
+}
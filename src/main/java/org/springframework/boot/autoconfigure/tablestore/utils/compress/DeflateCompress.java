@@ -1,6 +1,7 @@
 package org.springframework.boot.autoconfigure.tablestore.utils.compress;
 
 import com.alicloud.openservices.tablestore.core.utils.IOUtils;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsCompressException;
 
 import java.io.ByteArrayOutputStream;
 import java.util.zip.DataFormatException;
@@ -12,9 +13,12 @@ import java.util.zip.Inflater;
  *
  * @author Kenn
  */
-public class DeflateCompress {
+public class DeflateCompress implements CompressionCodec {
 
-    public static byte[] compress(byte[] input) {
+    public static final DeflateCompress INSTANCE = new DeflateCompress();
+
+    @Override
+    public byte[] compress(byte[] input) {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         Deflater compressor = new Deflater(1);
         try {
@@ -32,7 +36,8 @@ public class DeflateCompress {
         }
     }
 
-    public static byte[] uncompress(byte[] input) {
+    @Override
+    public byte[] uncompress(byte[] input) {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         Inflater decompressor = new Inflater();
         try {
@@ -40,12 +45,14 @@ public class DeflateCompress {
             final byte[] buf = new byte[2048];
             while (!decompressor.finished()) {
                 int count = decompressor.inflate(buf);
+                if (count == 0 && decompressor.needsInput()) {
+                    throw new OtsCompressException("deflate uncompress error, truncated input");
+                }
                 bos.write(buf, 0, count);
             }
             return bos.toByteArray();
         } catch (DataFormatException e) {
-            e.printStackTrace();
-            return null;
+            throw new OtsCompressException("deflate uncompress error", e);
         } finally {
             decompressor.end();
             IOUtils.safeClose(bos);
@@ -1,6 +1,7 @@
 package org.springframework.boot.autoconfigure.tablestore.utils.compress;
 
 import com.alicloud.openservices.tablestore.core.utils.IOUtils;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsCompressException;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -13,25 +14,23 @@ import java.util.zip.GZIPOutputStream;
  *
  * @author Kenn
  */
-public class GzipCompress {
+public class GzipCompress implements CompressionCodec {
 
-    public static byte[] compress(byte[] input) {
+    public static final GzipCompress INSTANCE = new GzipCompress();
+
+    @Override
+    public byte[] compress(byte[] input) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        GZIPOutputStream gzip = null;
-        try {
-            gzip = new GZIPOutputStream(out);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
             gzip.write(input);
-            return out.toByteArray();
         } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        } finally {
-            IOUtils.safeClose(gzip);
-            IOUtils.safeClose(out);
+            throw new OtsCompressException("gzip compress error", e);
         }
+        return out.toByteArray();
     }
 
-    public static byte[] uncompress(byte[] input) {
+    @Override
+    public byte[] uncompress(byte[] input) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         ByteArrayInputStream in = new ByteArrayInputStream(input);
         GZIPInputStream unzip = null;
@@ -44,8 +43,7 @@ public class GzipCompress {
             }
             return out.toByteArray();
         } catch (IOException e) {
-            e.printStackTrace();
-            return null;
+            throw new OtsCompressException("gzip uncompress error", e);
         } finally {
             IOUtils.safeClose(unzip);
             IOUtils.safeClose(in);
@@ -5,13 +5,17 @@ package org.springframework.boot.autoconfigure.tablestore.utils.compress;
  *
  * @author Kenn
  */
-public class NoCompress {
+public class NoCompress implements CompressionCodec {
 
-    public static byte[] compress(byte[] input) {
+    public static final NoCompress INSTANCE = new NoCompress();
+
+    @Override
+    public byte[] compress(byte[] input) {
         return input;
     }
 
-    public static byte[] uncompress(byte[] input) {
+    @Override
+    public byte[] uncompress(byte[] input) {
         return input;
     }
 }
@@ -1,5 +1,6 @@
 package org.springframework.boot.autoconfigure.tablestore.utils.compress;
 
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsCompressException;
 import org.xerial.snappy.Snappy;
 
 import java.io.IOException;
@@ -9,23 +10,25 @@ import java.io.IOException;
  *
  * @author Kenn
  */
-public class SnappyCompress {
+public class SnappyCompress implements CompressionCodec {
 
-    public static byte[] compress(byte[] input) {
+    public static final SnappyCompress INSTANCE = new SnappyCompress();
+
+    @Override
+    public byte[] compress(byte[] input) {
         try {
             return Snappy.compress(input);
         } catch (IOException e) {
-            e.printStackTrace();
-            return null;
+            throw new OtsCompressException("snappy compress error", e);
         }
     }
 
-    public static byte[] uncompress(byte[] input) {
+    @Override
+    public byte[] uncompress(byte[] input) {
         try {
             return Snappy.uncompress(input);
         } catch (IOException e) {
-            e.printStackTrace();
-            return null;
+            throw new OtsCompressException("snappy uncompress error", e);
         }
     }
 }
@@ -0,0 +1,59 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 静态builder()方法返回的构造器，按字段名调用构造器方法后build()
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class BuilderInstantiator implements EntityInstantiator {
+
+    private final MethodHandle builder;
+
+    /**
+     * 与字段下标对应的构造器方法，不存在时为null
+     */
+    private final MethodHandle[] setters;
+
+    private final MethodHandle build;
+
+    BuilderInstantiator(MethodHandle builder, MethodHandle[] setters, MethodHandle build) {
+        this.builder = builder;
+        this.setters = setters;
+        this.build = build;
+    }
+
+    @Override
+    public boolean requiresValues() {
+        return true;
+    }
+
+    @Override
+    public Object newInstance() {
+        throw new OtsException("builder requires values");
+    }
+
+    @Override
+    public Object newInstance(Object[] values) {
+        try {
+            Object current = (Object) builder.invokeExact();
+            for (int i = 0; i < setters.length; i++) {
+                if (setters[i] == null || values[i] == null) {
+                    continue;
+                }
+                Object next = (Object) setters[i].invokeExact(current, values[i]);
+                if (next != null) {
+                    current = next;
+                }
+            }
+            return (Object) build.invokeExact(current);
+        } catch (Throwable e) {
+            throw EntityInstantiators.instanceError(e);
+        }
+    }
+}
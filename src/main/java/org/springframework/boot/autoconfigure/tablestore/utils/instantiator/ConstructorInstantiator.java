@@ -0,0 +1,57 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 全参构造方法或record的规范构造方法，参数按位置映射到字段
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class ConstructorInstantiator implements EntityInstantiator {
+
+    private final MethodHandle constructor;
+
+    /**
+     * 每个构造参数对应的字段下标，-1表示未映射
+     */
+    private final int[] positions;
+
+    /**
+     * 字段值为null时的参数值，基本类型为默认值
+     */
+    private final Object[] defaults;
+
+    ConstructorInstantiator(MethodHandle constructor, int[] positions, Object[] defaults) {
+        this.constructor = constructor;
+        this.positions = positions;
+        this.defaults = defaults;
+    }
+
+    @Override
+    public boolean requiresValues() {
+        return true;
+    }
+
+    @Override
+    public Object newInstance() {
+        throw new OtsException("constructor requires values");
+    }
+
+    @Override
+    public Object newInstance(Object[] values) {
+        Object[] args = new Object[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            Object value = positions[i] < 0 ? null : values[positions[i]];
+            args[i] = value == null ? defaults[i] : value;
+        }
+        try {
+            return (Object) constructor.invokeExact(args);
+        } catch (Throwable e) {
+            throw EntityInstantiators.instanceError(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+/**
+ * 实体实例化策略，每个类解析一次
+ * <p>
+ * 存在无参构造方法时先创建实例再逐个写入字段；否则(record、全参构造方法、builder)先收集字段值，
+ * 再一次性构造不可变对象
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface EntityInstantiator {
+
+    /**
+     * 是否需要先收集字段值再构造
+     *
+     * @return true时调用{@link #newInstance(Object[])}，否则调用{@link #newInstance()}
+     */
+    boolean requiresValues();
+
+    /**
+     * 通过无参构造方法创建实例
+     *
+     * @return 实例
+     */
+    Object newInstance();
+
+    /**
+     * 根据字段值创建实例
+     *
+     * @param values 字段值，下标与{@link org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping#fieldInfos()}顺序一致，未读取的字段为null
+     * @return 实例
+     */
+    Object newInstance(Object[] values);
+}
@@ -0,0 +1,181 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 解析类的实例化方式，优先级：无参构造方法、record规范构造方法、builder、全参构造方法
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class EntityInstantiators {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * JDK16+的Class#isRecord，运行在低版本JDK时为null
+     */
+    private static final Method IS_RECORD = ReflectionUtils.findMethod(Class.class, "isRecord");
+
+    private static final Method GET_RECORD_COMPONENTS = ReflectionUtils.findMethod(Class.class, "getRecordComponents");
+
+    /**
+     * 解析实例化方式
+     *
+     * @param clazz      类类型
+     * @param fieldInfos 映射字段，顺序即字段值下标
+     * @return 实例化方式
+     */
+    public static EntityInstantiator of(Class<?> clazz, List<FieldInfo> fieldInfos) {
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            return new UnsupportedInstantiator(clazz);
+        }
+        try {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < fieldInfos.size(); i++) {
+                positions.put(fieldInfos.get(i).field().getName(), i);
+            }
+            EntityInstantiator instantiator = noArgs(clazz);
+            if (instantiator == null) {
+                instantiator = record(clazz, positions);
+            }
+            if (instantiator == null) {
+                instantiator = builder(clazz, fieldInfos);
+            }
+            if (instantiator == null) {
+                instantiator = allArgs(clazz, positions);
+            }
+            return instantiator == null ? new UnsupportedInstantiator(clazz) : instantiator;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new OtsException("reflect instance error, class: %s", e, clazz.getName());
+        }
+    }
+
+    static RuntimeException instanceError(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new OtsException("reflect instance error", e);
+    }
+
+    private static EntityInstantiator noArgs(Class<?> clazz) throws IllegalAccessException {
+        Constructor<?> constructor;
+        try {
+            constructor = clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(constructor);
+        MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        return new NoArgsInstantiator(handle);
+    }
+
+    private static EntityInstantiator record(Class<?> clazz, Map<String, Integer> positions) throws ReflectiveOperationException {
+        if (IS_RECORD == null || !(Boolean) IS_RECORD.invoke(clazz)) {
+            return null;
+        }
+        Object components = GET_RECORD_COMPONENTS.invoke(clazz);
+        int length = Array.getLength(components);
+        String[] names = new String[length];
+        Class<?>[] types = new Class<?>[length];
+        for (int i = 0; i < length; i++) {
+            Object component = Array.get(components, i);
+            names[i] = (String) component.getClass().getMethod("getName").invoke(component);
+            types[i] = (Class<?>) component.getClass().getMethod("getType").invoke(component);
+        }
+        return constructor(clazz.getDeclaredConstructor(types), names, positions);
+    }
+
+    /**
+     * 全参构造方法只按参数名与字段对应：@ConstructorProperties或-parameters编译保留的参数名，
+     * 不按类型顺序推断，避免同类型参数被静默交换
+     */
+    private static EntityInstantiator allArgs(Class<?> clazz, Map<String, Integer> positions) throws IllegalAccessException {
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+            if (properties != null && properties.value().length == constructor.getParameterCount()) {
+                return constructor(constructor, properties.value(), positions);
+            }
+        }
+        Constructor<?> candidate = null;
+        String[] candidateNames = null;
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            Parameter[] parameters = constructor.getParameters();
+            String[] names = new String[parameters.length];
+            for (int i = 0; i < parameters.length && names != null; i++) {
+                if (!parameters[i].isNamePresent() || !positions.containsKey(parameters[i].getName())) {
+                    names = null;
+                } else {
+                    names[i] = parameters[i].getName();
+                }
+            }
+            if (names != null && (candidate == null || parameters.length > candidateNames.length)) {
+                candidate = constructor;
+                candidateNames = names;
+            }
+        }
+        return candidate == null ? null : constructor(candidate, candidateNames, positions);
+    }
+
+    private static EntityInstantiator constructor(Constructor<?> constructor, String[] names, Map<String, Integer> positions) throws IllegalAccessException {
+        ReflectionUtils.makeAccessible(constructor);
+        Class<?>[] types = constructor.getParameterTypes();
+        int[] indexes = new int[types.length];
+        Object[] defaults = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Integer position = positions.get(names[i]);
+            indexes[i] = position == null ? -1 : position;
+            defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+        }
+        MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, types.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new ConstructorInstantiator(handle, indexes, defaults);
+    }
+
+    private static EntityInstantiator builder(Class<?> clazz, List<FieldInfo> fieldInfos) throws IllegalAccessException {
+        Method builderMethod = ReflectionUtils.findMethod(clazz, "builder");
+        if (builderMethod == null || !Modifier.isStatic(builderMethod.getModifiers())) {
+            return null;
+        }
+        Class<?> builderClass = builderMethod.getReturnType();
+        Method buildMethod = ReflectionUtils.findMethod(builderClass, "build");
+        if (buildMethod == null || !clazz.isAssignableFrom(buildMethod.getReturnType())) {
+            return null;
+        }
+        MethodHandle[] setters = new MethodHandle[fieldInfos.size()];
+        for (int i = 0; i < setters.length; i++) {
+            Field field = fieldInfos.get(i).field();
+            Method setter = ReflectionUtils.findMethod(builderClass, field.getName(), field.getType());
+            if (setter == null || Modifier.isStatic(setter.getModifiers())) {
+                continue;
+            }
+            ReflectionUtils.makeAccessible(setter);
+            setters[i] = LOOKUP.unreflect(setter).asType(MethodType.methodType(Object.class, Object.class, Object.class));
+        }
+        ReflectionUtils.makeAccessible(builderMethod);
+        ReflectionUtils.makeAccessible(buildMethod);
+        return new BuilderInstantiator(LOOKUP.unreflect(builderMethod).asType(MethodType.methodType(Object.class)), setters,
+                LOOKUP.unreflect(buildMethod).asType(MethodType.methodType(Object.class, Object.class)));
+    }
+}
@@ -0,0 +1,40 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 无参构造方法
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class NoArgsInstantiator implements EntityInstantiator {
+
+    private final MethodHandle constructor;
+
+    NoArgsInstantiator(MethodHandle constructor) {
+        this.constructor = constructor;
+    }
+
+    @Override
+    public boolean requiresValues() {
+        return false;
+    }
+
+    @Override
+    public Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw EntityInstantiators.instanceError(e);
+        }
+    }
+
+    @Override
+    public Object newInstance(Object[] values) {
+        throw new OtsException("no-args constructor does not accept values");
+    }
+}
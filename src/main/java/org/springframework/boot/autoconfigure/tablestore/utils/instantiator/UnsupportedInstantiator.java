@@ -0,0 +1,35 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+/**
+ * 无可用的实例化方式，仅用于写入的类不受影响，读取时抛出异常
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class UnsupportedInstantiator implements EntityInstantiator {
+
+    private final Class<?> clazz;
+
+    UnsupportedInstantiator(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    @Override
+    public boolean requiresValues() {
+        return false;
+    }
+
+    @Override
+    public Object newInstance() {
+        throw new OtsException("no constructor, builder or record component available to instance class: %s, "
+                + "an all-args constructor needs @ConstructorProperties or parameter names compiled with -parameters", clazz.getName());
+    }
+
+    @Override
+    public Object newInstance(Object[] values) {
+        return newInstance();
+    }
+}
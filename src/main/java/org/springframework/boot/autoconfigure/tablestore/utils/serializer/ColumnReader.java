@@ -0,0 +1,27 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+/**
+ * 字段值反序列化
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface ColumnReader {
+
+    /**
+     * 从STRING类型存储值反序列化
+     *
+     * @param value 存储值
+     * @return 字段值
+     */
+    Object read(String value);
+
+    /**
+     * 从BINARY类型存储值反序列化
+     *
+     * @param value 存储值
+     * @return 字段值
+     */
+    Object read(byte[] value);
+}
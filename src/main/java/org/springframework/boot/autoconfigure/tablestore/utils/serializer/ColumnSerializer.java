@@ -0,0 +1,31 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import java.lang.reflect.Type;
+
+/**
+ * 对象、List、Map类型字段的序列化方式，按字段类型解析读写器，解析结果随字段缓存，序列化方式变化后重新解析
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface ColumnSerializer {
+
+    /**
+     * 解析字段的写入器
+     *
+     * @param clazz 字段类型
+     * @param type  字段泛型类型
+     * @return 写入器
+     */
+    ColumnWriter writer(Class<?> clazz, Type type);
+
+    /**
+     * 解析字段的读取器
+     *
+     * @param clazz 字段类型
+     * @param type  字段泛型类型
+     * @return 读取器
+     */
+    ColumnReader reader(Class<?> clazz, Type type);
+}
@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * 在容器启动时注册全局序列化方式，关闭时注销，读写映射的Bean应依赖此Bean
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ColumnSerializerInitializer implements InitializingBean, DisposableBean {
+
+    private final ColumnSerializer serializer;
+
+    public ColumnSerializerInitializer(ColumnSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ColumnSerializers.register(serializer);
+    }
+
+    @Override
+    public void destroy() {
+        ColumnSerializers.unregister();
+    }
+}
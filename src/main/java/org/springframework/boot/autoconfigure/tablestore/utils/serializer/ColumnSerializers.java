@@ -0,0 +1,111 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import org.springframework.boot.autoconfigure.tablestore.enums.SerializerType;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 全局序列化方式，默认fastjson
+ * <p>
+ * 序列化方式在JVM内全局生效，字段读写器每次读写时读取，变化后重新解析；Spring容器中由{@link ColumnSerializerInitializer}注册，
+ * 同一JVM中同时存在的多个容器必须使用同一种序列化方式
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class ColumnSerializers {
+
+    private static final String JACKSON = "com.fasterxml.jackson.databind.ObjectMapper";
+
+    private static final String SMILE = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+
+    private static volatile ColumnSerializer serializer = FastjsonColumnSerializer.INSTANCE;
+
+    /**
+     * 以下为容器注册状态，由ColumnSerializers.class保护
+     */
+    private static ColumnSerializer registered;
+
+    private static ColumnSerializer previous;
+
+    private static int registrations;
+
+    /**
+     * 获取全局序列化方式
+     *
+     * @return 序列化方式
+     */
+    public static ColumnSerializer getDefault() {
+        return serializer;
+    }
+
+    /**
+     * 设置全局序列化方式，之后的读写立即生效
+     *
+     * @param serializer 序列化方式
+     */
+    public static void setDefault(ColumnSerializer serializer) {
+        ColumnSerializers.serializer = serializer == null ? FastjsonColumnSerializer.INSTANCE : serializer;
+    }
+
+    /**
+     * 容器启动时注册序列化方式，已有其他容器注册了不同类型的序列化方式时抛出异常
+     *
+     * @param serializer 序列化方式
+     */
+    public static synchronized void register(ColumnSerializer serializer) {
+        if (registrations > 0) {
+            if (registered.getClass() != serializer.getClass()) {
+                throw new OtsException("serializer %s conflicts with %s registered by another application context",
+                        serializer.getClass().getName(), registered.getClass().getName());
+            }
+        } else {
+            registered = serializer;
+            previous = ColumnSerializers.serializer;
+            setDefault(serializer);
+        }
+        registrations++;
+    }
+
+    /**
+     * 容器关闭时注销序列化方式，最后一个容器注销后恢复注册前的序列化方式
+     */
+    public static synchronized void unregister() {
+        if (registrations == 0 || --registrations > 0) {
+            return;
+        }
+        setDefault(previous);
+        registered = null;
+        previous = null;
+    }
+
+    /**
+     * 创建内置序列化方式
+     *
+     * @param type 序列化类型
+     * @return 序列化方式
+     */
+    public static ColumnSerializer of(SerializerType type) {
+        if (type == null) {
+            return FastjsonColumnSerializer.INSTANCE;
+        }
+        switch (type) {
+            case JACKSON:
+                check(type, JACKSON);
+                return new JacksonColumnSerializer();
+            case SMILE:
+                check(type, SMILE);
+                return new SmileColumnSerializer();
+            case FASTJSON:
+            default:
+                return FastjsonColumnSerializer.INSTANCE;
+        }
+    }
+
+    private static void check(SerializerType type, String className) {
+        if (!ClassUtils.isPresent(className, ColumnSerializers.class.getClassLoader())) {
+            throw new OtsException("serializer %s requires class %s on classpath", type, className);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+/**
+ * 字段值序列化
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface ColumnWriter {
+
+    /**
+     * 序列化为属性列值
+     *
+     * @param value 字段值，非null
+     * @return 属性列值
+     */
+    ColumnValue write(Object value);
+
+    /**
+     * 序列化为主键列值
+     *
+     * @param value 字段值，非null
+     * @return 主键列值
+     */
+    PrimaryKeyValue writePrimaryKey(Object value);
+}
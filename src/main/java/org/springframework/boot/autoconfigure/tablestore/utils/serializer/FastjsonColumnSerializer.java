@@ -0,0 +1,102 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import com.alibaba.fastjson.JSON;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * fastjson序列化，以STRING存储，与原有读写规则保持一致
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public final class FastjsonColumnSerializer implements ColumnSerializer {
+
+    public static final FastjsonColumnSerializer INSTANCE = new FastjsonColumnSerializer();
+
+    private static final ColumnWriter WRITER = new FastjsonWriter();
+
+    private static final ColumnReader MAP_READER = new FastjsonReader(Map.class);
+
+    private FastjsonColumnSerializer() {
+    }
+
+    @Override
+    public ColumnWriter writer(Class<?> clazz, Type type) {
+        return WRITER;
+    }
+
+    @Override
+    public ColumnReader reader(Class<?> clazz, Type type) {
+        if (clazz == List.class) {
+            Type argument = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments()[0] : null;
+            if (argument instanceof Class) {
+                return new FastjsonListReader((Class<?>) argument);
+            } else if (argument instanceof ParameterizedType) {
+                return new FastjsonReader(type);
+            }
+            return new FastjsonListReader(null);
+        } else if (clazz == Map.class) {
+            return MAP_READER;
+        }
+        return new FastjsonReader(clazz);
+    }
+
+    private static final class FastjsonWriter implements ColumnWriter {
+
+        @Override
+        public ColumnValue write(Object value) {
+            return ColumnValue.fromString(JSON.toJSONString(value));
+        }
+
+        @Override
+        public PrimaryKeyValue writePrimaryKey(Object value) {
+            return PrimaryKeyValue.fromString(JSON.toJSONString(value));
+        }
+    }
+
+    private static final class FastjsonReader implements ColumnReader {
+
+        private final Type type;
+
+        private FastjsonReader(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(String value) {
+            return JSON.parseObject(value, type);
+        }
+
+        @Override
+        public Object read(byte[] value) {
+            return read(new String(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class FastjsonListReader implements ColumnReader {
+
+        private final Class<?> elementClass;
+
+        private FastjsonListReader(Class<?> elementClass) {
+            this.elementClass = elementClass;
+        }
+
+        @Override
+        public Object read(String value) {
+            return elementClass == null ? JSON.parseArray(value) : JSON.parseArray(value, elementClass);
+        }
+
+        @Override
+        public Object read(byte[] value) {
+            return read(new String(value, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson序列化，以STRING存储，按字段类型预先构建ObjectReader与ObjectWriter
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class JacksonColumnSerializer implements ColumnSerializer {
+
+    private final ObjectMapper mapper;
+
+    public JacksonColumnSerializer() {
+        this(defaultMapper(new ObjectMapper()));
+    }
+
+    public JacksonColumnSerializer(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ColumnWriter writer(Class<?> clazz, Type type) {
+        return new JacksonWriter(writerFor(mapper, type));
+    }
+
+    @Override
+    public ColumnReader reader(Class<?> clazz, Type type) {
+        return new JacksonReader(mapper.readerFor(mapper.constructType(type)));
+    }
+
+    /**
+     * 与fastjson保持一致，忽略未知属性
+     */
+    static ObjectMapper defaultMapper(ObjectMapper mapper) {
+        return mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 字段类型可能被子类赋值时按运行时类型序列化，避免丢失子类属性
+     */
+    static ObjectWriter writerFor(ObjectMapper mapper, Type type) {
+        JavaType javaType = mapper.constructType(type);
+        if (javaType.isContainerType() || javaType.isFinal()) {
+            return mapper.writerFor(javaType);
+        }
+        return mapper.writer();
+    }
+
+    private static final class JacksonWriter implements ColumnWriter {
+
+        private final ObjectWriter writer;
+
+        private JacksonWriter(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public ColumnValue write(Object value) {
+            return ColumnValue.fromString(write0(value));
+        }
+
+        @Override
+        public PrimaryKeyValue writePrimaryKey(Object value) {
+            return PrimaryKeyValue.fromString(write0(value));
+        }
+
+        private String write0(Object value) {
+            try {
+                return writer.writeValueAsString(value);
+            } catch (IOException e) {
+                throw new OtsException("serialize column error, class: %s", e, value.getClass().getName());
+            }
+        }
+    }
+
+    static final class JacksonReader implements ColumnReader {
+
+        private final ObjectReader reader;
+
+        JacksonReader(ObjectReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Object read(String value) {
+            try {
+                return reader.readValue(value);
+            } catch (IOException e) {
+                throw new OtsException("deserialize column error, type: %s", e, reader.getValueType());
+            }
+        }
+
+        @Override
+        public Object read(byte[] value) {
+            try {
+                return reader.readValue(value);
+            } catch (IOException e) {
+                throw new OtsException("deserialize column error, type: %s", e, reader.getValueType());
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.serializer;
+
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson Smile二进制序列化，以BINARY存储；读取STRING存储值时按JSON解析，兼容切换前写入的数据
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class SmileColumnSerializer implements ColumnSerializer {
+
+    private final ObjectMapper mapper;
+
+    private final ObjectMapper textMapper;
+
+    public SmileColumnSerializer() {
+        this(JacksonColumnSerializer.defaultMapper(new ObjectMapper(new SmileFactory())),
+                JacksonColumnSerializer.defaultMapper(new ObjectMapper()));
+    }
+
+    /**
+     * @param mapper     基于SmileFactory的ObjectMapper
+     * @param textMapper 读取STRING存储值使用的ObjectMapper
+     */
+    public SmileColumnSerializer(ObjectMapper mapper, ObjectMapper textMapper) {
+        this.mapper = mapper;
+        this.textMapper = textMapper;
+    }
+
+    @Override
+    public ColumnWriter writer(Class<?> clazz, Type type) {
+        return new SmileWriter(JacksonColumnSerializer.writerFor(mapper, type));
+    }
+
+    @Override
+    public ColumnReader reader(Class<?> clazz, Type type) {
+        JavaType javaType = mapper.constructType(type);
+        return new SmileReader(mapper.readerFor(javaType), new JacksonColumnSerializer.JacksonReader(textMapper.readerFor(javaType)));
+    }
+
+    private static final class SmileWriter implements ColumnWriter {
+
+        private final ObjectWriter writer;
+
+        private SmileWriter(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public ColumnValue write(Object value) {
+            return ColumnValue.fromBinary(write0(value));
+        }
+
+        @Override
+        public PrimaryKeyValue writePrimaryKey(Object value) {
+            return PrimaryKeyValue.fromBinary(write0(value));
+        }
+
+        private byte[] write0(Object value) {
+            try {
+                return writer.writeValueAsBytes(value);
+            } catch (IOException e) {
+                throw new OtsException("serialize column error, class: %s", e, value.getClass().getName());
+            }
+        }
+    }
+
+    private static final class SmileReader implements ColumnReader {
+
+        private final ObjectReader reader;
+
+        private final ColumnReader textReader;
+
+        private SmileReader(ObjectReader reader, ColumnReader textReader) {
+            this.reader = reader;
+            this.textReader = textReader;
+        }
+
+        @Override
+        public Object read(String value) {
+            return textReader.read(value);
+        }
+
+        @Override
+        public Object read(byte[] value) {
+            try {
+                return reader.readValue(value);
+            } catch (IOException e) {
+                throw new OtsException("deserialize column error, type: %s", e, reader.getValueType());
+            }
+        }
+    }
+}
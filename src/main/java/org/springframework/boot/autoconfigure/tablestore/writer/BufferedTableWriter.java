@@ -0,0 +1,73 @@
+package org.springframework.boot.autoconfigure.tablestore.writer;
+
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.RowChange;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 缓冲批量写入，写入请求进入缓冲区后立即返回，按行数、字节数或等待时间合并为BatchWriteRow请求发送
+ * <p>
+ * 单行写入失败时Future以{@link org.springframework.boot.autoconfigure.tablestore.exception.OtsWriteException}完成；
+ * 同一行的多次写入在同时发送多个请求时不保证顺序
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface BufferedTableWriter extends AutoCloseable {
+
+    /**
+     * 缓冲插入数据
+     *
+     * @param data      数据
+     * @param condition 条件
+     * @param <T>       泛型
+     * @return 该行的写入结果
+     */
+    <T> CompletableFuture<BatchWriteRowResponse.RowResult> put(T data, Condition condition);
+
+    /**
+     * 缓冲更新数据
+     *
+     * @param data       数据
+     * @param condition  条件
+     * @param deleteNull 是否删除为Null字段
+     * @param <T>        泛型
+     * @return 该行的写入结果
+     */
+    <T> CompletableFuture<BatchWriteRowResponse.RowResult> update(T data, Condition condition, boolean deleteNull);
+
+    /**
+     * 缓冲删除数据
+     *
+     * @param table     表名
+     * @param key       主键
+     * @param condition 条件
+     * @param <T>       泛型
+     * @return 该行的写入结果
+     */
+    <T> CompletableFuture<BatchWriteRowResponse.RowResult> delete(String table, T key, Condition condition);
+
+    /**
+     * 缓冲写入行变更
+     *
+     * @param rowChange 行变更
+     * @return 该行的写入结果
+     */
+    CompletableFuture<BatchWriteRowResponse.RowResult> write(RowChange rowChange);
+
+    /**
+     * 立即发送缓冲区中的行
+     *
+     * @return 调用前进入缓冲区的行全部完成后完成
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * 发送缓冲区中剩余的行并停止，之后的写入将被拒绝
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,40 @@
+package org.springframework.boot.autoconfigure.tablestore.writer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 计数器聚合，按表、主键、列在内存中累加增量，定时或计数器数量达到上限时以原子increment批量写入
+ * <p>
+ * 写入被缓冲区拒绝或因可重试错误码（服务端繁忙、配额不足等）失败的增量会并回计数器在下次刷新时重试；
+ * 其他失败（如网络超时）无法确定是否已生效，不再重试，避免重复累加
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public interface CounterAggregator extends AutoCloseable {
+
+    /**
+     * 累加计数
+     *
+     * @param table  表名
+     * @param key    主键，PrimaryKey或主键对象
+     * @param column 计数列名
+     * @param delta  增量
+     * @param <T>    主键泛型
+     */
+    <T> void increment(String table, T key, String column, long delta);
+
+    /**
+     * 立即写入当前累加的增量
+     *
+     * @return 调用前累加的增量全部写入后完成，有行写入失败时异常完成
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * 写入剩余增量并停止，之后的累加将被拒绝
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,514 @@
+package org.springframework.boot.autoconfigure.tablestore.writer.impl;
+
+import com.alicloud.openservices.tablestore.SyncClientInterface;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.CapacityUnit;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.ConsumedCapacity;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowDeleteChange;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsRejectedException;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsWriteException;
+import org.springframework.boot.autoconfigure.tablestore.utils.ChangeTracker;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+import org.springframework.boot.autoconfigure.tablestore.writer.BufferedTableWriter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 写入按表名与第一个主键列（分区键）的哈希分配到若干通道，每个通道由单独的分发线程从队列中组装批次，交由发送线程执行BatchWriteRow；
+ * 缓冲区容量与发送中的请求数按通道限制，某个分区被限流时只阻塞同一通道的写入
+ * <p>
+ * 缓冲区容量按行计数，行写入完成后才释放，因此发送中的行同样占用容量；同一行总是进入同一通道，
+ * 批次中的行仍在之前发送中的批次里时（不可合并的写入或关闭合并时），先等待那个批次完成再发送，因此同一行的写入按提交顺序到达服务端
+ * <p>
+ * 开启合并时，批次发送前同一行的无条件写入按{@link RowChangeMerger}合并为一次写入，各次写入的Future得到同一结果
+ * <p>
+ * 关闭或分发线程被中断后，通道不再接收写入，之后的写入以{@link OtsRejectedException}失败
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class BufferedTableWriterImpl implements BufferedTableWriter {
+
+    private final SyncClientInterface syncClient;
+
+    private final TableStoreProperties.Writer config;
+
+    private final long lingerNanos;
+
+    private final Lane[] lanes;
+
+    private final ExecutorService sender;
+
+    private volatile boolean closed;
+
+    public BufferedTableWriterImpl(SyncClientInterface syncClient, TableStoreProperties.Writer config) {
+        Preconditions.checkArgument(config.getBufferSize() > 0, "buffer size must be positive");
+        Preconditions.checkArgument(config.getMaxBatchRows() > 0, "max batch rows must be positive");
+        Preconditions.checkArgument(config.getMaxInFlight() > 0, "max in flight must be positive");
+        Preconditions.checkArgument(config.getPartitions() > 0, "partitions must be positive");
+        this.syncClient = syncClient;
+        this.config = config;
+        this.lingerNanos = config.getLinger().toNanos();
+        CustomizableThreadFactory senderFactory = new CustomizableThreadFactory("tablestore-writer-sender-");
+        senderFactory.setDaemon(true);
+        this.sender = Executors.newFixedThreadPool(config.getMaxInFlight() * config.getPartitions(), senderFactory);
+        int laneCapacity = (config.getBufferSize() + config.getPartitions() - 1) / config.getPartitions();
+        this.lanes = new Lane[config.getPartitions()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(laneCapacity, lanes.length == 1 ? "tablestore-writer-dispatcher" : "tablestore-writer-dispatcher-" + i);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchWriteRowResponse.RowResult> put(T data, Condition condition) {
+        Preconditions.checkNotNull(data);
+        RowPutChange rowPutChange = OtsUtils.rowPutChange(data);
+        rowPutChange.setCondition(condition);
+        return write(rowPutChange);
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchWriteRowResponse.RowResult> update(T data, Condition condition, boolean deleteNull) {
+        Preconditions.checkNotNull(data);
+        RowUpdateChange rowUpdateChange = OtsUtils.rowUpdateChange(data, deleteNull);
+        rowUpdateChange.setCondition(condition);
+        return write(rowUpdateChange);
+    }
+
+    @Override
+    public <T> CompletableFuture<BatchWriteRowResponse.RowResult> delete(String table, T key, Condition condition) {
+        Preconditions.checkArgument(StringUtils.isNotEmpty(table));
+        Preconditions.checkNotNull(key);
+        RowDeleteChange rowDeleteChange = new RowDeleteChange(table, ColumnUtils.primaryKey(key));
+        rowDeleteChange.setCondition(condition);
+        return write(rowDeleteChange);
+    }
+
+    @Override
+    public CompletableFuture<BatchWriteRowResponse.RowResult> write(RowChange rowChange) {
+        Preconditions.checkNotNull(rowChange);
+        if (closed) {
+            throw new OtsRejectedException("buffered writer is closed");
+        }
+        if (ChangeTracker.unchanged(rowChange)) {
+            return CompletableFuture.completedFuture(new BatchWriteRowResponse.RowResult(rowChange.getTableName(), null,
+                    new ConsumedCapacity(new CapacityUnit(0, 0)), 0));
+        }
+        return lane(rowChange).write(rowChange);
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return signal(false);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        signal(true).join();
+        sender.shutdown();
+    }
+
+    private CompletableFuture<Void> signal(boolean stop) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            Signal signal = new Signal(stop);
+            if (!lanes[i].offer(signal)) {
+                lanes[i].release(signal);
+            }
+            futures[i] = signal.future;
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private Lane lane(RowChange rowChange) {
+        return lanes[partition(rowChange)];
+    }
+
+    /**
+     * 按表名与分区键选择通道，同一分区的写入总是进入同一通道
+     *
+     * @return 通道下标
+     */
+    int partition(RowChange rowChange) {
+        if (lanes.length == 1) {
+            return 0;
+        }
+        PrimaryKeyValue partitionKey = rowChange.getPrimaryKey().getPrimaryKeyColumn(0).getValue();
+        int hash = rowChange.getTableName().hashCode() * 31 + partitionKey.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private void execute(List<PendingWrite> writes) {
+        BatchWriteRowRequest request = new BatchWriteRowRequest();
+        Map<String, List<PendingWrite>> tableWrites = new HashMap<>();
+        for (PendingWrite write : writes) {
+            request.addRowChange(write.rowChange);
+            tableWrites.computeIfAbsent(write.rowChange.getTableName(), key -> new ArrayList<>()).add(write);
+        }
+        BatchWriteRowResponse response;
+        try {
+            response = syncClient.batchWriteRow(request);
+        } catch (RuntimeException e) {
+            writes.forEach(write -> write.fail(e));
+            return;
+        }
+        for (List<BatchWriteRowResponse.RowResult> results : response.getRowStatus().values()) {
+            for (BatchWriteRowResponse.RowResult result : results) {
+                PendingWrite write = tableWrites.get(result.getTableName()).get(result.getIndex());
+                if (result.isSucceed()) {
+                    write.complete(result);
+                } else {
+                    write.fail(new OtsWriteException(write.rowChange, result.getError()));
+                }
+            }
+        }
+        for (PendingWrite write : writes) {
+            if (!write.future.isDone()) {
+                write.fail(new OtsException("no result for row, table: %s, primary key: %s",
+                        write.rowChange.getTableName(), write.rowChange.getPrimaryKey()));
+            }
+        }
+    }
+
+    /**
+     * 单个通道：独立的队列、缓冲区容量、分发线程与发送中请求数上限
+     */
+    private final class Lane {
+
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+        private final int bufferSize;
+
+        private final Semaphore capacity;
+
+        private final Semaphore inFlight;
+
+        private final Set<CompletableFuture<Void>> inFlightBatches = ConcurrentHashMap.newKeySet();
+
+        /**
+         * 发送中的行及其所在批次，仅分发线程写入
+         */
+        private final Map<Pair<String, PrimaryKey>, CompletableFuture<Void>> inFlightKeys = new ConcurrentHashMap<>();
+
+        private final Thread dispatcher;
+
+        /**
+         * 分发线程已退出，之后入队的元素不会再被处理
+         */
+        private volatile boolean stopped;
+
+        private Lane(int bufferSize, String name) {
+            this.bufferSize = bufferSize;
+            this.capacity = new Semaphore(bufferSize);
+            this.inFlight = new Semaphore(config.getMaxInFlight());
+            this.dispatcher = new Thread(this::dispatch, name);
+            this.dispatcher.setDaemon(true);
+            this.dispatcher.start();
+        }
+
+        private CompletableFuture<BatchWriteRowResponse.RowResult> write(RowChange rowChange) {
+            if (!acquire()) {
+                CompletableFuture<BatchWriteRowResponse.RowResult> future = new CompletableFuture<>();
+                future.completeExceptionally(new OtsRejectedException("buffer is full, row dropped, table: %s, primary key: %s",
+                        rowChange.getTableName(), rowChange.getPrimaryKey()));
+                return future;
+            }
+            PendingWrite write = new PendingWrite(rowChange);
+            write.future.whenComplete((result, throwable) -> capacity.release());
+            if (!offer(write)) {
+                write.fail(new OtsRejectedException("buffered writer is closed"));
+            }
+            return write.future;
+        }
+
+        /**
+         * 入队后再检查分发线程是否已退出：分发线程先置stopped再清空队列，
+         * 因此入队的元素要么被清空队列时处理，要么在这里被移除，不会遗留在队列中
+         *
+         * @return 是否已交给分发线程，false时由调用方完成该元素
+         */
+        private boolean offer(Object item) {
+            queue.add(item);
+            return !stopped || !queue.remove(item);
+        }
+
+        /**
+         * 发送中的批次全部完成后完成信号
+         */
+        private void release(Signal signal) {
+            CompletableFuture.allOf(inFlightBatches.toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((result, throwable) -> signal.future.complete(null));
+        }
+
+        /**
+         * @return 是否获取到缓冲区容量
+         */
+        private boolean acquire() {
+            switch (config.getBackpressure()) {
+                case DROP:
+                    return capacity.tryAcquire();
+                case FAIL:
+                    if (!capacity.tryAcquire()) {
+                        throw new OtsRejectedException("buffer is full, buffer size: %d", bufferSize);
+                    }
+                    return true;
+                case BLOCK:
+                default:
+                    try {
+                        capacity.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new OtsRejectedException("interrupted while waiting for buffer");
+                    }
+                    return true;
+            }
+        }
+
+        private void dispatch() {
+            Batch batch = new Batch();
+            while (true) {
+                Object item;
+                try {
+                    if (batch.writes.isEmpty()) {
+                        item = queue.take();
+                    } else {
+                        long wait = batch.deadline - System.nanoTime();
+                        item = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    send(batch);
+                    break;
+                }
+                if (item == null) {
+                    batch = send(batch);
+                } else if (item instanceof Signal) {
+                    Signal signal = (Signal) item;
+                    batch = send(batch);
+                    release(signal);
+                    if (signal.stop) {
+                        break;
+                    }
+                } else {
+                    PendingWrite write = (PendingWrite) item;
+                    if (!batch.coalesce(write)) {
+                        if (!batch.accepts(write)) {
+                            batch = send(batch);
+                        }
+                        batch.add(write);
+                    }
+                    if (batch.full()) {
+                        batch = send(batch);
+                    }
+                }
+            }
+            stopped = true;
+            Object item;
+            while ((item = queue.poll()) != null) {
+                if (item instanceof PendingWrite) {
+                    ((PendingWrite) item).fail(new OtsRejectedException("buffered writer is closed"));
+                } else {
+                    release((Signal) item);
+                }
+            }
+        }
+
+        /**
+         * 提交批次，发送中的请求数达到上限或批次中的行仍在发送中时阻塞分发线程
+         *
+         * @return 新的空批次
+         */
+        private Batch send(Batch batch) {
+            if (batch.writes.isEmpty()) {
+                return batch;
+            }
+            awaitKeys(batch);
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            inFlightBatches.add(done);
+            for (Pair<String, PrimaryKey> key : batch.keys.keySet()) {
+                inFlightKeys.put(key, done);
+            }
+            sender.execute(() -> {
+                try {
+                    execute(batch.writes);
+                } finally {
+                    for (Pair<String, PrimaryKey> key : batch.keys.keySet()) {
+                        inFlightKeys.remove(key, done);
+                    }
+                    inFlightBatches.remove(done);
+                    inFlight.release();
+                    done.complete(null);
+                }
+            });
+            return new Batch();
+        }
+
+        /**
+         * 等待包含本批次中任意一行的发送中批次完成，避免同一行的两次写入并发到达服务端而乱序
+         */
+        private void awaitKeys(Batch batch) {
+            if (inFlightKeys.isEmpty()) {
+                return;
+            }
+            Set<CompletableFuture<Void>> previous = new HashSet<>();
+            for (Pair<String, PrimaryKey> key : batch.keys.keySet()) {
+                CompletableFuture<Void> done = inFlightKeys.get(key);
+                if (done != null) {
+                    previous.add(done);
+                }
+            }
+            if (!previous.isEmpty()) {
+                CompletableFuture.allOf(previous.toArray(new CompletableFuture<?>[0])).join();
+            }
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final Pair<String, PrimaryKey> key;
+
+        private final CompletableFuture<BatchWriteRowResponse.RowResult> future = new CompletableFuture<>();
+
+        private RowChange rowChange;
+
+        private long size;
+
+        /**
+         * 合并进本次写入的后续写入
+         */
+        private List<CompletableFuture<BatchWriteRowResponse.RowResult>> merged;
+
+        private PendingWrite(RowChange rowChange) {
+            this.key = Pair.of(rowChange.getTableName(), rowChange.getPrimaryKey());
+            this.rowChange = rowChange;
+            this.size = rowChange.getDataSize();
+        }
+
+        private void merge(RowChange rowChange, CompletableFuture<BatchWriteRowResponse.RowResult> future) {
+            this.rowChange = rowChange;
+            this.size = rowChange.getDataSize();
+            if (merged == null) {
+                merged = new ArrayList<>();
+            }
+            merged.add(future);
+        }
+
+        private void complete(BatchWriteRowResponse.RowResult result) {
+            future.complete(result);
+            if (merged != null) {
+                merged.forEach(mergedFuture -> mergedFuture.complete(result));
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            future.completeExceptionally(throwable);
+            if (merged != null) {
+                merged.forEach(mergedFuture -> mergedFuture.completeExceptionally(throwable));
+            }
+        }
+    }
+
+    private static final class Signal {
+
+        private final boolean stop;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Signal(boolean stop) {
+            this.stop = stop;
+        }
+    }
+
+    /**
+     * 同一批次内同一行只出现一次，BatchWriteRow不允许重复主键
+     */
+    private final class Batch {
+
+        private final List<PendingWrite> writes = new ArrayList<>();
+
+        private final Map<Pair<String, PrimaryKey>, PendingWrite> keys = new HashMap<>();
+
+        private long bytes;
+
+        private long deadline;
+
+        private boolean accepts(PendingWrite write) {
+            if (writes.isEmpty()) {
+                return true;
+            }
+            return writes.size() < config.getMaxBatchRows()
+                    && bytes + write.size <= config.getMaxBatchBytes()
+                    && !keys.containsKey(write.key);
+        }
+
+        /**
+         * @return 是否已合并进批次中同一行的写入
+         */
+        private boolean coalesce(PendingWrite write) {
+            if (!config.isCoalesce()) {
+                return false;
+            }
+            PendingWrite previous = keys.get(write.key);
+            if (previous == null) {
+                return false;
+            }
+            RowChange merged = RowChangeMerger.merge(previous.rowChange, write.rowChange);
+            if (merged == null) {
+                return false;
+            }
+            bytes -= previous.size;
+            previous.merge(merged, write.future);
+            bytes += previous.size;
+            return true;
+        }
+
+        private void add(PendingWrite write) {
+            if (writes.isEmpty()) {
+                deadline = System.nanoTime() + lingerNanos;
+            }
+            writes.add(write);
+            keys.put(write.key, write);
+            bytes += write.size;
+        }
+
+        private boolean full() {
+            return writes.size() >= config.getMaxBatchRows() || bytes >= config.getMaxBatchBytes();
+        }
+    }
+}
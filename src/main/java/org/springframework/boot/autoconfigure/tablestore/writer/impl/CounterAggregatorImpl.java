@@ -0,0 +1,283 @@
+package org.springframework.boot.autoconfigure.tablestore.writer.impl;
+
+import com.alicloud.openservices.tablestore.TableStoreException;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsRejectedException;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsWriteException;
+import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;
+import org.springframework.boot.autoconfigure.tablestore.writer.BufferedTableWriter;
+import org.springframework.boot.autoconfigure.tablestore.writer.CounterAggregator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 每个计数器按线程分成若干个独立缓存行上的槽位，累加只对本线程的槽位执行一次原子加；
+ * 刷新在单独的线程中以getAndSet取走各槽位的值，同一行的多个计数列合并为一个RowUpdateChange交由{@link BufferedTableWriter}发送
+ * <p>
+ * 连续两次刷新都没有增量的计数器会被移除以释放内存；移除与累加并发时，累加方发现计数器已移除会把本槽位剩余的值转移到新的计数器，增量不会丢失
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class CounterAggregatorImpl implements CounterAggregator {
+
+    /**
+     * 相邻槽位的间隔，使不同槽位位于不同缓存行
+     */
+    private static final int PADDING = 8;
+
+    private final BufferedTableWriter writer;
+
+    private final TableStoreProperties.Counter config;
+
+    private final Set<String> retryErrorCodes;
+
+    private final int stripes;
+
+    private final ConcurrentHashMap<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean closed;
+
+    public CounterAggregatorImpl(BufferedTableWriter writer, TableStoreProperties properties) {
+        TableStoreProperties.Counter config = properties.getCounter();
+        Preconditions.checkArgument(config.getMaxKeys() > 0, "max keys must be positive");
+        Preconditions.checkArgument(!config.getInterval().isNegative() && !config.getInterval().isZero(), "interval must be positive");
+        this.writer = writer;
+        this.config = config;
+        this.retryErrorCodes = properties.getBatch().getRetry().getErrorCodes();
+        this.stripes = Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("tablestore-counter-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = config.getInterval().toNanos();
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> void increment(String table, T key, String column, long delta) {
+        Preconditions.checkArgument(StringUtils.isNotEmpty(table));
+        Preconditions.checkNotNull(key);
+        Preconditions.checkArgument(StringUtils.isNotEmpty(column));
+        if (closed) {
+            throw new OtsRejectedException("counter aggregator is closed");
+        }
+        if (delta != 0) {
+            add(new CounterKey(table, ColumnUtils.primaryKey(key), column), delta);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return submitFlush();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submitFlush().exceptionally(throwable -> null).join();
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> submitFlush() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        scheduler.execute(() -> doFlush().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(null);
+            }
+        }));
+        return future;
+    }
+
+    private void add(CounterKey key, long delta) {
+        int cell = (int) (Thread.currentThread().getId() & (stripes - 1)) * PADDING;
+        while (delta != 0) {
+            Counter counter = counters.get(key);
+            if (counter == null) {
+                Counter created = new Counter(stripes);
+                counter = counters.putIfAbsent(key, created);
+                if (counter == null) {
+                    counter = created;
+                    if (counters.size() >= config.getMaxKeys() && flushScheduled.compareAndSet(false, true)) {
+                        scheduler.execute(this::flushQuietly);
+                    }
+                }
+            }
+            counter.cells.getAndAdd(cell, delta);
+            if (!counter.retired) {
+                return;
+            }
+            delta = counter.cells.getAndSet(cell, 0);
+        }
+    }
+
+    private void flushQuietly() {
+        doFlush();
+    }
+
+    /**
+     * 只在刷新线程中执行
+     */
+    private CompletableFuture<Void> doFlush() {
+        flushScheduled.set(false);
+        Map<Pair<String, PrimaryKey>, Map<String, Long>> rows = new LinkedHashMap<>();
+        Iterator<Map.Entry<CounterKey, Counter>> iterator = counters.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<CounterKey, Counter> entry = iterator.next();
+            Counter counter = entry.getValue();
+            long delta = counter.drain();
+            if (delta == 0 && counter.idle) {
+                counter.retired = true;
+                iterator.remove();
+                delta = counter.drain();
+            }
+            counter.idle = delta == 0;
+            if (delta != 0) {
+                CounterKey key = entry.getKey();
+                rows.computeIfAbsent(Pair.of(key.table, key.primaryKey), row -> new LinkedHashMap<>())
+                        .merge(key.column, delta, Long::sum);
+            }
+        }
+        if (rows.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<CompletableFuture<BatchWriteRowResponse.RowResult>> futures = new ArrayList<>(rows.size());
+        rows.forEach((row, columns) -> futures.add(write(row.getKey(), row.getValue(), columns)));
+        writer.flush();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private CompletableFuture<BatchWriteRowResponse.RowResult> write(String table, PrimaryKey primaryKey, Map<String, Long> columns) {
+        RowUpdateChange rowUpdateChange = new RowUpdateChange(table, primaryKey);
+        columns.forEach((column, delta) -> rowUpdateChange.increment(new Column(column, ColumnValue.fromLong(delta))));
+        CompletableFuture<BatchWriteRowResponse.RowResult> future;
+        try {
+            future = writer.write(rowUpdateChange);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null && retriable(throwable)) {
+                columns.forEach((column, delta) -> add(new CounterKey(table, primaryKey, column), delta));
+            }
+        });
+    }
+
+    /**
+     * @return 增量是否确定未生效，可以重新累加
+     */
+    private boolean retriable(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (cause instanceof OtsRejectedException) {
+            return true;
+        }
+        if (cause instanceof OtsWriteException) {
+            return retryErrorCodes.contains(((OtsWriteException) cause).error().getCode());
+        }
+        if (cause instanceof TableStoreException) {
+            return retryErrorCodes.contains(((TableStoreException) cause).getErrorCode());
+        }
+        return false;
+    }
+
+    private static final class Counter {
+
+        private final AtomicLongArray cells;
+
+        /**
+         * 已从计数器表中移除，由刷新线程写入
+         */
+        private volatile boolean retired;
+
+        /**
+         * 上次刷新时没有增量，只由刷新线程访问
+         */
+        private boolean idle;
+
+        private Counter(int stripes) {
+            this.cells = new AtomicLongArray(stripes * PADDING);
+        }
+
+        private long drain() {
+            long sum = 0;
+            for (int i = 0; i < cells.length(); i += PADDING) {
+                sum += cells.getAndSet(i, 0);
+            }
+            return sum;
+        }
+    }
+
+    private static final class CounterKey {
+
+        private final String table;
+
+        private final PrimaryKey primaryKey;
+
+        private final String column;
+
+        private final int hash;
+
+        private CounterKey(String table, PrimaryKey primaryKey, String column) {
+            this.table = table;
+            this.primaryKey = primaryKey;
+            this.column = column;
+            this.hash = Objects.hash(table, primaryKey, column);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CounterKey)) {
+                return false;
+            }
+            CounterKey that = (CounterKey) o;
+            return table.equals(that.table) && primaryKey.equals(that.primaryKey) && column.equals(that.column);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
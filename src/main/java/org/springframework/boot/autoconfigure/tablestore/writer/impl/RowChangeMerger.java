@@ -0,0 +1,127 @@
+package org.springframework.boot.autoconfigure.tablestore.writer.impl;
+
+import com.alicloud.openservices.tablestore.core.utils.Pair;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.ReturnType;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowDeleteChange;
+import com.alicloud.openservices.tablestore.model.RowExistenceExpectation;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 合并同一行的两次写入，合并结果与依次执行两次写入等价（每列只保留最新版本时）：
+ * <ul>
+ *     <li>后一次为put或delete时直接覆盖前一次</li>
+ *     <li>后一次为update时按列合并，同名列以后一次为准</li>
+ *     <li>带条件、需要返回值、自增主键、包含increment或按版本删除的写入不合并</li>
+ * </ul>
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+final class RowChangeMerger {
+
+    private RowChangeMerger() {
+    }
+
+    /**
+     * @param previous 先写入的行
+     * @param next     后写入的行，与previous为同一表同一主键
+     * @return 合并后的行，不可合并时返回null
+     */
+    static RowChange merge(RowChange previous, RowChange next) {
+        if (!mergeable(previous) || !mergeable(next)) {
+            return null;
+        }
+        if (next instanceof RowPutChange || next instanceof RowDeleteChange) {
+            return next;
+        }
+        RowUpdateChange update = (RowUpdateChange) next;
+        if (!plainUpdate(update)) {
+            return null;
+        }
+        if (previous instanceof RowDeleteChange) {
+            RowPutChange merged = new RowPutChange(next.getTableName(), next.getPrimaryKey());
+            for (Pair<Column, RowUpdateChange.Type> pair : update.getColumnsToUpdate()) {
+                if (pair.getSecond() == RowUpdateChange.Type.PUT) {
+                    merged.addColumn(pair.getFirst());
+                }
+            }
+            return merged.getColumnsToPut().isEmpty() ? previous : merged;
+        }
+        if (previous instanceof RowPutChange) {
+            Map<String, List<Column>> columns = new LinkedHashMap<>();
+            for (Column column : ((RowPutChange) previous).getColumnsToPut()) {
+                columns.computeIfAbsent(column.getName(), key -> new ArrayList<>()).add(column);
+            }
+            for (Pair<Column, RowUpdateChange.Type> pair : update.getColumnsToUpdate()) {
+                columns.remove(pair.getFirst().getName());
+                if (pair.getSecond() == RowUpdateChange.Type.PUT) {
+                    columns.computeIfAbsent(pair.getFirst().getName(), key -> new ArrayList<>()).add(pair.getFirst());
+                }
+            }
+            RowPutChange merged = new RowPutChange(next.getTableName(), next.getPrimaryKey());
+            columns.values().forEach(merged::addColumns);
+            return merged;
+        }
+        RowUpdateChange previousUpdate = (RowUpdateChange) previous;
+        if (!plainUpdate(previousUpdate)) {
+            return null;
+        }
+        Map<String, Pair<Column, RowUpdateChange.Type>> columns = new LinkedHashMap<>();
+        for (Pair<Column, RowUpdateChange.Type> pair : previousUpdate.getColumnsToUpdate()) {
+            columns.put(pair.getFirst().getName(), pair);
+        }
+        for (Pair<Column, RowUpdateChange.Type> pair : update.getColumnsToUpdate()) {
+            columns.remove(pair.getFirst().getName());
+            columns.put(pair.getFirst().getName(), pair);
+        }
+        RowUpdateChange merged = new RowUpdateChange(next.getTableName(), next.getPrimaryKey());
+        for (Pair<Column, RowUpdateChange.Type> pair : columns.values()) {
+            if (pair.getSecond() == RowUpdateChange.Type.PUT) {
+                merged.put(pair.getFirst());
+            } else {
+                merged.deleteColumns(pair.getFirst().getName());
+            }
+        }
+        return merged;
+    }
+
+    private static boolean mergeable(RowChange rowChange) {
+        Condition condition = rowChange.getCondition();
+        if (condition != null && (condition.getRowExistenceExpectation() != RowExistenceExpectation.IGNORE
+                || condition.getColumnCondition() != null)) {
+            return false;
+        }
+        if (rowChange.getReturnType() != null && rowChange.getReturnType() != ReturnType.RT_NONE) {
+            return false;
+        }
+        for (PrimaryKeyColumn primaryKeyColumn : rowChange.getPrimaryKey().getPrimaryKeyColumns()) {
+            if (primaryKeyColumn.getValue().isPlaceHolderForAutoIncr()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 是否只包含put与删除全部版本
+     */
+    private static boolean plainUpdate(RowUpdateChange update) {
+        for (Pair<Column, RowUpdateChange.Type> pair : update.getColumnsToUpdate()) {
+            if (pair.getSecond() != RowUpdateChange.Type.PUT && pair.getSecond() != RowUpdateChange.Type.DELETE_ALL) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package org.springframework.boot.autoconfigure.tablestore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class TableStoreAutoConfigurationTest {
+
+    @Test
+    void applicationTaskExecutorIsKept() {
+        ExecutorService executor;
+        try (ConfigurableApplicationContext context = run()) {
+            assertTrue(context.containsBean("applicationTaskExecutor"));
+            assertEquals(1, context.getBeansOfType(Executor.class).size());
+            executor = context.getBean("tableStoreExecutor", TableStoreExecutor.class).executor();
+            assertFalse(executor.isShutdown());
+        }
+        assertTrue(executor.isShutdown());
+    }
+
+    private static ConfigurableApplicationContext run() {
+        return new SpringApplicationBuilder(AutoConfigurations.class)
+                .web(WebApplicationType.NONE)
+                .run("--tablestore.endpoint=http://localhost:1",
+                        "--tablestore.instance=test",
+                        "--tablestore.access-key-id=id",
+                        "--tablestore.access-key-secret=secret",
+                        "--spring.main.banner-mode=off");
+    }
+
+    /**
+     * 与应用中相同，按自动配置的顺序处理：tablestore排在task之前
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({TaskExecutionAutoConfiguration.class, TableStoreAutoConfiguration.class})
+    static class AutoConfigurations {
+    }
+}
@@ -0,0 +1,199 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.Row;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.model.ImportQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.ImportReport;
+import org.springframework.boot.autoconfigure.tablestore.support.FakeSyncClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class BulkImportServiceImplTest {
+
+    private static final String TABLE = "import_test";
+
+    @TempDir
+    Path dir;
+
+    private final FakeSyncClient fake = new FakeSyncClient();
+
+    private ExecutorService executor;
+
+    private BulkImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        TableStoreProperties properties = new TableStoreProperties();
+        properties.getBatch().getRetry().setBackoff(Duration.ofMillis(1));
+        executor = Executors.newFixedThreadPool(properties.getBatch().getParallelism());
+        importService = new BulkImportServiceImpl(new TableStoreServiceImpl(fake.client(), properties, executor), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void importsCsvAndCountsRejectedRows() throws IOException {
+        Path csv = csv(5000);
+        ImportReport report = importService.importFile(query(csv), Entity.class);
+
+        assertEquals(5000, report.rows());
+        assertEquals(2, report.rejected());
+        assertEquals(Files.size(csv), report.offset());
+        assertTrue(report.rowsPerSecond() > 0);
+        assertEquals(5000, fake.table(TABLE).size());
+        Row row = fake.table(TABLE).get(key("k7"));
+        assertEquals(7, row.getLatestColumn("a").getValue().asLong());
+        assertEquals("x,\"y\"\nz", row.getLatestColumn("b").getValue().asString());
+    }
+
+    @Test
+    void rerunAfterCompletionResumesAtEndOfFile() throws IOException {
+        Path csv = csv(1000);
+        importService.importFile(query(csv), Entity.class);
+        int requests = fake.requests("batchWriteRow");
+
+        ImportReport report = importService.importFile(query(csv), Entity.class);
+
+        assertEquals(Files.size(csv), report.resumedFrom());
+        assertEquals(1000, report.rows());
+        assertEquals(requests, fake.requests("batchWriteRow"));
+    }
+
+    @Test
+    void resumesJsonlImportFromCheckpoint() throws IOException {
+        int rows = 20000;
+        Path jsonl = jsonl(rows);
+        fake.failAfterRows(8000);
+
+        assertThrows(OtsException.class, () -> importService.importFile(query(jsonl), Entity.class));
+        assertTrue(Files.isRegularFile(query(jsonl).checkpoint()));
+        assertTrue(fake.table(TABLE).size() < rows);
+
+        fake.recover();
+        ImportReport report = importService.importFile(query(jsonl), Entity.class);
+
+        assertTrue(report.resumedFrom() > 0 && report.resumedFrom() < Files.size(jsonl));
+        assertEquals(rows, report.rows());
+        assertEquals(0, report.rejected());
+        assertEquals(rows, fake.table(TABLE).size());
+    }
+
+    @Test
+    void retriesRetryableRowErrors() throws IOException {
+        Set<PrimaryKey> failed = ConcurrentHashMap.newKeySet();
+        fake.rowError(key -> key.hashCode() % 7 == 0 && failed.add(key), "OTSServerBusy");
+
+        ImportReport report = importService.importFile(query(jsonl(3000)), Entity.class);
+
+        assertTrue(failed.size() > 0);
+        assertEquals(3000, report.rows());
+        assertEquals(0, report.rejected());
+        assertEquals(3000, fake.table(TABLE).size());
+    }
+
+    @Test
+    void interruptedImportWaitsForRunningBatches() throws Exception {
+        Path jsonl = jsonl(2000);
+        fake.delayWrites(Integer.MAX_VALUE, 300);
+        ImportQuery query = query(jsonl);
+        query.parallelism(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread importer = new Thread(() -> {
+            try {
+                importService.importFile(query, Entity.class);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        importer.start();
+        Thread.sleep(100);
+        importer.interrupt();
+        importer.join(10000);
+
+        assertTrue(failure.get() instanceof OtsException);
+        int written = fake.table(TABLE).size();
+        int requests = fake.requests("batchWriteRow");
+        assertTrue(written > 0);
+        Thread.sleep(500);
+        assertEquals(written, fake.table(TABLE).size());
+        assertEquals(requests, fake.requests("batchWriteRow"));
+    }
+
+    private Path csv(int rows) throws IOException {
+        StringBuilder builder = new StringBuilder("id,a,b,tags\r\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append('k').append(i).append(',').append(i).append(",\"x,\"\"y\"\"\nz\",\"[\"\"p\"\",\"\"q\"\"]\"\r\n");
+        }
+        builder.append("bad,notanumber,,\n");
+        builder.append("short,1\n");
+        return write("data.csv", builder);
+    }
+
+    private Path jsonl(int rows) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            builder.append("{\"id\":\"j").append(i).append("\",\"a\":").append(i).append(",\"tags\":[\"t\"]}\n");
+        }
+        return write("data.jsonl", builder);
+    }
+
+    private Path write(String name, StringBuilder content) throws IOException {
+        return Files.write(dir.resolve(name), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ImportQuery query(Path path) {
+        ImportQuery query = new ImportQuery();
+        query.path(path);
+        return query;
+    }
+
+    private static PrimaryKey key(String id) {
+        return new PrimaryKey(Collections.singletonList(new PrimaryKeyColumn("id", PrimaryKeyValue.fromString(id))));
+    }
+
+    @Table(name = TABLE)
+    public static class Entity {
+
+        @OtsColumn(primaryKey = true)
+        public String id;
+
+        public Long a;
+
+        public String b;
+
+        public List<String> tags;
+    }
+}
@@ -0,0 +1,113 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.Row;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.enums.RowStatus;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.support.FakeSyncClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class TableStoreAsyncServiceImplTest {
+
+    private static final String TABLE = "async_service_test";
+
+    private final FakeSyncClient fake = new FakeSyncClient();
+
+    private ExecutorService executor;
+
+    private TableStoreAsyncServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        service = new TableStoreAsyncServiceImpl(fake.asyncClient(), new TableStoreProperties(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void batchGetSplitsKeysAndReadsDuplicatesOnce() throws Exception {
+        for (long i = 0; i < 300; i += 2) {
+            fake.put(TABLE, row(i));
+        }
+        fake.rowError(key -> key.equals(key(77)) ? "OTSServerBusy" : null);
+        List<PrimaryKey> keys = new ArrayList<>();
+        for (long i = 249; i >= 0; i--) {
+            keys.add(key(i));
+        }
+        keys.add(key(10));
+        keys.add(key(77));
+        BatchGetQuery query = new BatchGetQuery();
+        query.primaryKeys(keys);
+
+        BatchGetReply<Entity> reply = service.batchGet(query, Entity.class).get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, fake.requests("batchGetRow"));
+        assertEquals(keys.size(), reply.statuses().size());
+        for (int i = 0; i < keys.size(); i++) {
+            long id = keys.get(i).getPrimaryKeyColumn(0).getValue().asLong();
+            RowStatus expected = id == 77 ? RowStatus.FAILED : id % 2 == 0 ? RowStatus.PRESENT : RowStatus.ABSENT;
+            assertEquals(expected, reply.statuses().get(i), "key " + id);
+            if (expected == RowStatus.PRESENT) {
+                assertEquals(id, reply.results().get(i).id);
+            }
+        }
+        assertEquals(126, reply.records().size());
+        assertEquals(2, reply.errors().size());
+    }
+
+    @Test
+    void batchGetWithoutKeysSendsNoRequest() throws Exception {
+        BatchGetQuery query = new BatchGetQuery();
+        query.primaryKeys(Collections.emptyList());
+
+        BatchGetReply<Entity> reply = service.batchGet(query, Entity.class).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, fake.requests("batchGetRow"));
+        assertEquals(0, reply.statuses().size());
+    }
+
+    private static PrimaryKey key(long id) {
+        return new PrimaryKey(Collections.singletonList(new PrimaryKeyColumn("id", PrimaryKeyValue.fromLong(id))));
+    }
+
+    private static Row row(long id) {
+        return new Row(key(id), new Column[]{new Column("name", ColumnValue.fromString("n" + id))});
+    }
+
+    @Table(name = TABLE)
+    public static class Entity {
+
+        @OtsColumn(primaryKey = true)
+        public Long id;
+
+        public String name;
+    }
+}
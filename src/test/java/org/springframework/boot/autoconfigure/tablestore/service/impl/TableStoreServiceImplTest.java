@@ -0,0 +1,352 @@
+package org.springframework.boot.autoconfigure.tablestore.service.impl;
+
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.Error;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.UpdateRowResponse;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.enums.RowStatus;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.BatchWriteReply;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.MultiBatchGetReply;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeGetQuery;
+import org.springframework.boot.autoconfigure.tablestore.model.RangeIterator;
+import org.springframework.boot.autoconfigure.tablestore.support.FakeSyncClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class TableStoreServiceImplTest {
+
+    private static final String TABLE = "service_test";
+
+    private static final String OTHER_TABLE = "service_test_other";
+
+    private static final String TRACKED_TABLE = "service_test_tracked";
+
+    private final FakeSyncClient fake = new FakeSyncClient();
+
+    private TableStoreProperties properties;
+
+    private ExecutorService executor;
+
+    private TableStoreServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TableStoreProperties();
+        properties.getBatch().getRetry().setBackoff(Duration.ofMillis(1));
+        executor = Executors.newFixedThreadPool(properties.getBatch().getParallelism());
+        service = new TableStoreServiceImpl(fake.client(), properties, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void blockingCallsFromExecutorThreadsDoNotDeadlock() throws Exception {
+        for (long i = 0; i < 20000; i++) {
+            fake.put(TABLE, row(i));
+        }
+        List<Future<Long>> tasks = new ArrayList<>();
+        for (int t = 0; t < properties.getBatch().getParallelism() * 2; t++) {
+            tasks.add(executor.submit(() -> {
+                List<Pair<Entity, Condition>> pairs = new ArrayList<>();
+                for (long i = 0; i < 2000; i++) {
+                    pairs.add(Pair.of(entity(i), null));
+                }
+                service.batchPut(pairs);
+                long rows = 0;
+                try (RangeIterator<Entity> iterator = service.rangeIterator(fullRange(), Entity.class)) {
+                    while (iterator.hasNext()) {
+                        iterator.next();
+                        rows++;
+                    }
+                }
+                return rows;
+            }));
+        }
+        for (Future<Long> task : tasks) {
+            assertEquals(20000, task.get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void batchGetSplitsKeysAndRetriesFailedRows() {
+        for (long i = 0; i < 2000; i += 2) {
+            fake.put(TABLE, row(i));
+        }
+        Set<PrimaryKey> failedOnce = ConcurrentHashMap.newKeySet();
+        fake.rowError(key -> key.equals(key(77)) || (id(key) % 10 == 1 && failedOnce.add(key)), "OTSServerBusy");
+        List<PrimaryKey> keys = new ArrayList<>();
+        for (long i = 1999; i >= 0; i--) {
+            keys.add(key(i));
+        }
+        keys.add(key(10));
+        keys.add(key(11));
+        BatchGetQuery query = new BatchGetQuery();
+        query.primaryKeys(keys);
+
+        BatchGetReply<Entity> reply = service.batchGet(query, Entity.class);
+
+        assertEquals(keys.size(), reply.statuses().size());
+        for (int i = 0; i < keys.size(); i++) {
+            long id = id(keys.get(i));
+            RowStatus expected = id == 77 ? RowStatus.FAILED : id % 2 == 0 ? RowStatus.PRESENT : RowStatus.ABSENT;
+            assertEquals(expected, reply.statuses().get(i), "key " + id);
+            if (expected == RowStatus.PRESENT) {
+                assertEquals(id, reply.results().get(i).id);
+            }
+        }
+        assertEquals(1001, reply.records().size());
+        assertEquals(1, reply.errors().size());
+        assertTrue(fake.requests("batchGetRow") > 20);
+    }
+
+    @Test
+    void batchPutWithRetryResendsOnlyRetriableRows() {
+        Map<Long, AtomicInteger> sent = new ConcurrentHashMap<>();
+        fake.rowError(key -> {
+            long id = id(key);
+            int attempt = sent.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+            if (id == 99) {
+                return "OTSServerBusy";
+            }
+            if (id % 50 == 7) {
+                return "OTSConditionCheckFail";
+            }
+            return id % 10 == 3 && attempt == 1 ? "OTSServerBusy" : null;
+        });
+        List<Pair<Entity, Condition>> pairs = new ArrayList<>();
+        for (long i = 449; i >= 0; i--) {
+            pairs.add(Pair.of(entity(i), null));
+        }
+
+        BatchWriteReply<Entity> reply = service.batchPutWithRetry(pairs);
+
+        int maxAttempts = properties.getBatch().getRetry().getMaxAttempts();
+        List<Long> records = new ArrayList<>();
+        List<Long> errors = new ArrayList<>();
+        for (long i = 449; i >= 0; i--) {
+            (i == 99 || i % 50 == 7 ? errors : records).add(i);
+        }
+        assertEquals(records, ids(reply.records()));
+        assertEquals(errors, ids(Lists.transform(reply.errors(), Pair::getKey)));
+        for (Pair<Entity, Error> error : reply.errors()) {
+            assertEquals(error.getKey().id == 99 ? "OTSServerBusy" : "OTSConditionCheckFail", error.getValue().getCode());
+        }
+        int expectedRetries = maxAttempts - 1;
+        for (long i = 0; i < 450; i++) {
+            int expected = i == 99 ? maxAttempts : i % 50 == 7 ? 1 : i % 10 == 3 ? 2 : 1;
+            assertEquals(expected, sent.get(i).get(), "row " + i);
+            if (i != 99 && i % 10 == 3) {
+                expectedRetries++;
+            }
+        }
+        assertEquals(expectedRetries, reply.retries());
+        assertEquals(450 - errors.size(), fake.table(TABLE).size());
+    }
+
+    @Test
+    void batchPutWithRetryStopsWhenBudgetIsSpent() {
+        TableStoreProperties.Retry retry = properties.getBatch().getRetry();
+        retry.setMaxAttempts(1000);
+        retry.setBackoff(Duration.ofMillis(20));
+        retry.setMaxBackoff(Duration.ofMillis(20));
+        retry.setBudget(Duration.ofMillis(200));
+        AtomicInteger sent = new AtomicInteger();
+        fake.rowError(key -> {
+            sent.incrementAndGet();
+            return "OTSServerBusy";
+        });
+
+        long start = System.nanoTime();
+        BatchWriteReply<Entity> reply = service.batchPutWithRetry(Collections.singletonList(Pair.of(entity(1), null)));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1, reply.errors().size());
+        assertTrue(sent.get() > 1 && sent.get() < 1000, "sent " + sent.get());
+        assertEquals(sent.get() - 1, reply.retries());
+    }
+
+    @Test
+    void unchangedTrackedEntitiesAreNotSent() {
+        for (long i = 0; i < 3; i++) {
+            fake.put(TRACKED_TABLE, row(i));
+        }
+        List<Pair<TrackedEntity, Condition>> pairs = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            pairs.add(Pair.of(service.get(key(i), null, TrackedEntity.class), null));
+        }
+
+        UpdateRowResponse response = service.update(pairs.get(0).getKey(), null, true);
+        assertEquals(0, response.getConsumedCapacity().getCapacityUnit().getWriteCapacityUnit());
+        assertEquals(0, fake.requests("updateRow"));
+
+        pairs.get(1).getKey().name = "changed";
+        BatchWriteRowResponse batch = service.batchUpdate(pairs, true);
+        assertEquals(1, fake.requests("batchWriteRow"));
+        assertTrue(batch.isAllSucceed());
+        List<BatchWriteRowResponse.RowResult> results = batch.getRowStatus(TRACKED_TABLE);
+        assertEquals(3, results.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(1, results.get(1).getConsumedCapacity().getCapacityUnit().getWriteCapacityUnit());
+        assertEquals("changed", fake.table(TRACKED_TABLE).get(key(1)).getLatestColumn("name").getValue().asString());
+
+        BatchWriteReply<TrackedEntity> reply = service.batchUpdateWithRetry(Arrays.asList(pairs.get(0), pairs.get(2)), true);
+        assertEquals(1, fake.requests("batchWriteRow"));
+        assertEquals(2, reply.records().size());
+    }
+
+    @Test
+    void multiBatchGetReadsSeveralTablesInOneRequest() {
+        for (long i = 0; i < 30; i += 2) {
+            fake.put(TABLE, row(i));
+            fake.put(OTHER_TABLE, row(i));
+        }
+        List<PrimaryKey> keys = new ArrayList<>();
+        for (long i = 0; i < 30; i++) {
+            keys.add(key(i));
+        }
+        MultiBatchGetQuery query = new MultiBatchGetQuery();
+        query.add(Entity.class, keys);
+        query.add(OtherEntity.class, keys.subList(0, 20));
+
+        MultiBatchGetReply reply = service.batchGet(query);
+
+        assertEquals(1, fake.requests("batchGetRow"));
+        assertEquals(15, reply.get(Entity.class).records().size());
+        assertEquals(10, reply.get(OtherEntity.class).records().size());
+        assertEquals(RowStatus.ABSENT, reply.get(OtherEntity.class).statuses().get(1));
+        assertEquals("n4", reply.get(OtherEntity.class).results().get(4).name);
+    }
+
+    @Test
+    void multiBatchGetSplitsAcrossTablesAndRejectsSharedTables() {
+        List<PrimaryKey> keys = new ArrayList<>();
+        for (long i = 0; i < 150; i++) {
+            keys.add(key(i));
+        }
+        MultiBatchGetQuery query = new MultiBatchGetQuery();
+        query.add(Entity.class, keys);
+        query.add(OtherEntity.class, keys);
+
+        MultiBatchGetReply reply = service.batchGet(query);
+
+        assertEquals(3, fake.requests("batchGetRow"));
+        assertEquals(150, reply.get(OtherEntity.class).statuses().size());
+
+        MultiBatchGetQuery shared = new MultiBatchGetQuery();
+        shared.add(Entity.class, keys);
+        shared.add(SameTableEntity.class, keys);
+        assertThrows(IllegalArgumentException.class, () -> service.batchGet(shared));
+    }
+
+    private static List<Long> ids(List<Entity> entities) {
+        List<Long> ids = new ArrayList<>();
+        for (Entity entity : entities) {
+            ids.add(entity.id);
+        }
+        return ids;
+    }
+
+    private static long id(PrimaryKey key) {
+        return key.getPrimaryKeyColumn(0).getValue().asLong();
+    }
+
+    private static RangeGetQuery fullRange() {
+        RangeGetQuery query = new RangeGetQuery();
+        query.startPrimaryKey(key(0));
+        query.endPrimaryKey(key(Long.MAX_VALUE));
+        query.limit(0);
+        return query;
+    }
+
+    static PrimaryKey key(long id) {
+        return new PrimaryKey(Collections.singletonList(new PrimaryKeyColumn("id", PrimaryKeyValue.fromLong(id))));
+    }
+
+    private static Row row(long id) {
+        return new Row(key(id), new Column[]{new Column("name", ColumnValue.fromString("n" + id))});
+    }
+
+    private static Entity entity(long id) {
+        Entity entity = new Entity();
+        entity.id = id;
+        entity.name = "n" + id;
+        return entity;
+    }
+
+    @Table(name = TABLE)
+    public static class Entity {
+
+        @OtsColumn(primaryKey = true)
+        public Long id;
+
+        public String name;
+    }
+
+    @Table(name = TRACKED_TABLE, trackChanges = true)
+    public static class TrackedEntity {
+
+        @OtsColumn(primaryKey = true)
+        public Long id;
+
+        public String name;
+    }
+
+    @Table(name = OTHER_TABLE)
+    public static class OtherEntity {
+
+        @OtsColumn(primaryKey = true)
+        public Long id;
+
+        public String name;
+    }
+
+    @Table(name = TABLE)
+    public static class SameTableEntity {
+
+        @OtsColumn(primaryKey = true)
+        public Long id;
+    }
+}
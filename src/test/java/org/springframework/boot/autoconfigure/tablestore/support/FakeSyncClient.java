@@ -0,0 +1,301 @@
+package org.springframework.boot.autoconfigure.tablestore.support;
+
+import com.alicloud.openservices.tablestore.AsyncClientInterface;
+import com.alicloud.openservices.tablestore.ClientException;
+import com.alicloud.openservices.tablestore.SyncClientInterface;
+import com.alicloud.openservices.tablestore.TableStoreCallback;
+import com.alicloud.openservices.tablestore.TableStoreException;
+import com.alicloud.openservices.tablestore.core.utils.Pair;
+import com.alicloud.openservices.tablestore.model.BatchGetRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchGetRowResponse;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowRequest;
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.CapacityUnit;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.ConsumedCapacity;
+import com.alicloud.openservices.tablestore.model.Direction;
+import com.alicloud.openservices.tablestore.model.Error;
+import com.alicloud.openservices.tablestore.model.GetRangeRequest;
+import com.alicloud.openservices.tablestore.model.GetRangeResponse;
+import com.alicloud.openservices.tablestore.model.GetRowRequest;
+import com.alicloud.openservices.tablestore.model.GetRowResponse;
+import com.alicloud.openservices.tablestore.model.MultiRowQueryCriteria;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.RangeRowQueryCriteria;
+import com.alicloud.openservices.tablestore.model.Response;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowChange;
+import com.alicloud.openservices.tablestore.model.RowDeleteChange;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 内存中的SyncClient，支持getRow、getRange、batchGetRow与batchWriteRow，用于离线测试；asyncClient()以同一份数据提供AsyncClient，在调用线程中完成回调
+ * <p>
+ * 不校验条件与表结构，batchGetRow与服务端一样限制单次请求最多100行；可按主键注入行级错误，或在写入一定行数后让请求失败，模拟限流与中断；也可延迟写入请求，模拟慢请求
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+public class FakeSyncClient {
+
+    private static final int MAX_RANGE_ROWS = 5000;
+
+    private static final int MAX_BATCH_GET_ROWS = 100;
+
+    private final Map<String, ConcurrentSkipListMap<PrimaryKey, Row>> tables = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private final AtomicLong written = new AtomicLong();
+
+    private volatile Function<PrimaryKey, String> rowError = key -> null;
+
+    private volatile long failAfterRows = Long.MAX_VALUE;
+
+    private final AtomicInteger delayedWrites = new AtomicInteger();
+
+    private volatile long writeDelayMillis;
+
+    private final SyncClientInterface client = (SyncClientInterface) Proxy.newProxyInstance(FakeSyncClient.class.getClassLoader(),
+            new Class<?>[]{SyncClientInterface.class}, (proxy, method, args) -> dispatch(method, args));
+
+    private final AsyncClientInterface asyncClient = (AsyncClientInterface) Proxy.newProxyInstance(FakeSyncClient.class.getClassLoader(),
+            new Class<?>[]{AsyncClientInterface.class}, (proxy, method, args) -> dispatchAsync(method, args));
+
+    public SyncClientInterface client() {
+        return client;
+    }
+
+    public AsyncClientInterface asyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * @param predicate 需要返回行级错误的主键，每次请求都会重新判断
+     * @param errorCode 错误码
+     */
+    public void rowError(Predicate<PrimaryKey> predicate, String errorCode) {
+        this.rowError = key -> predicate.test(key) ? errorCode : null;
+    }
+
+    /**
+     * @param errorCode 按主键给出行级错误码，返回null时该行正常处理，每次请求都会重新判断
+     */
+    public void rowError(Function<PrimaryKey, String> errorCode) {
+        this.rowError = errorCode;
+    }
+
+    /**
+     * 累计写入的行数达到rows后，之后的batchWriteRow请求整体抛出ClientException
+     */
+    public void failAfterRows(long rows) {
+        this.failAfterRows = rows;
+    }
+
+    /**
+     * 接下来的requests个batchWriteRow请求在写入前等待millis毫秒，模拟慢请求
+     */
+    public void delayWrites(int requests, long millis) {
+        this.writeDelayMillis = millis;
+        this.delayedWrites.set(requests);
+    }
+
+    public void recover() {
+        this.rowError = key -> null;
+        this.failAfterRows = Long.MAX_VALUE;
+    }
+
+    public int requests(String operation) {
+        AtomicInteger count = requests.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    public NavigableMap<PrimaryKey, Row> table(String tableName) {
+        return tables.computeIfAbsent(tableName, key -> new ConcurrentSkipListMap<>());
+    }
+
+    public void put(String tableName, Row row) {
+        table(tableName).put(row.getPrimaryKey(), row);
+    }
+
+    private Object dispatch(Method method, Object[] args) throws Throwable {
+        requests.computeIfAbsent(method.getName(), key -> new AtomicInteger()).incrementAndGet();
+        switch (method.getName()) {
+            case "getRow":
+                return getRow((GetRowRequest) args[0]);
+            case "getRange":
+                return getRange((GetRangeRequest) args[0]);
+            case "batchGetRow":
+                return batchGetRow((BatchGetRowRequest) args[0]);
+            case "batchWriteRow":
+                return batchWriteRow((BatchWriteRowRequest) args[0]);
+            case "shutdown":
+                return null;
+            case "toString":
+                return "FakeSyncClient";
+            case "hashCode":
+                return System.identityHashCode(this);
+            case "equals":
+                return args[0] == client;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    @SuppressWarnings(value = "unchecked")
+    private Object dispatchAsync(Method method, Object[] args) throws Throwable {
+        if (args == null || args.length != 2 || !(args[1] instanceof TableStoreCallback)) {
+            return dispatch(method, args);
+        }
+        TableStoreCallback<Object, Object> callback = (TableStoreCallback<Object, Object>) args[1];
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            Object response = dispatch(method, args);
+            callback.onCompleted(args[0], response);
+            future.complete(response);
+        } catch (Exception e) {
+            callback.onFailed(args[0], e);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private GetRowResponse getRow(GetRowRequest request) {
+        String tableName = request.getRowQueryCriteria().getTableName();
+        Row row = table(tableName).get(request.getRowQueryCriteria().getPrimaryKey());
+        return new GetRowResponse(new Response("fake"), row, capacity(1, 0));
+    }
+
+    private GetRangeResponse getRange(GetRangeRequest request) {
+        RangeRowQueryCriteria criteria = request.getRangeRowQueryCriteria();
+        boolean forward = criteria.getDirection() != Direction.BACKWARD;
+        NavigableMap<PrimaryKey, Row> table = table(criteria.getTableName());
+        NavigableMap<PrimaryKey, Row> range = forward
+                ? table.subMap(criteria.getInclusiveStartPrimaryKey(), true, criteria.getExclusiveEndPrimaryKey(), false)
+                : table.descendingMap().subMap(criteria.getInclusiveStartPrimaryKey(), true, criteria.getExclusiveEndPrimaryKey(), false);
+        int limit = criteria.getLimit() > 0 ? Math.min(criteria.getLimit(), MAX_RANGE_ROWS) : MAX_RANGE_ROWS;
+        List<Row> rows = new ArrayList<>();
+        PrimaryKey next = null;
+        for (Map.Entry<PrimaryKey, Row> entry : range.entrySet()) {
+            if (rows.size() == limit) {
+                next = entry.getKey();
+                break;
+            }
+            rows.add(entry.getValue());
+        }
+        GetRangeResponse response = new GetRangeResponse(new Response("fake"), capacity(rows.size(), 0));
+        response.setRows(rows);
+        response.setNextStartPrimaryKey(next);
+        return response;
+    }
+
+    private BatchGetRowResponse batchGetRow(BatchGetRowRequest request) {
+        int rows = 0;
+        for (MultiRowQueryCriteria criteria : request.getCriteriasByTable().values()) {
+            rows += criteria.getRowKeys().size();
+        }
+        if (rows > MAX_BATCH_GET_ROWS) {
+            throw new TableStoreException("rows count exceeds the upper limit: " + rows, "OTSParameterInvalid");
+        }
+        BatchGetRowResponse response = new BatchGetRowResponse(new Response("fake"));
+        for (MultiRowQueryCriteria criteria : request.getCriteriasByTable().values()) {
+            String tableName = criteria.getTableName();
+            List<PrimaryKey> keys = criteria.getRowKeys();
+            for (int i = 0; i < keys.size(); i++) {
+                String errorCode = rowError.apply(keys.get(i));
+                if (errorCode != null) {
+                    response.addResult(new BatchGetRowResponse.RowResult(tableName, new Error(errorCode, "injected"), i));
+                } else {
+                    response.addResult(new BatchGetRowResponse.RowResult(tableName, table(tableName).get(keys.get(i)), capacity(1, 0), i));
+                }
+            }
+        }
+        return response;
+    }
+
+    private BatchWriteRowResponse batchWriteRow(BatchWriteRowRequest request) throws InterruptedException {
+        if (delayedWrites.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+            Thread.sleep(writeDelayMillis);
+        }
+        if (written.get() >= failAfterRows) {
+            throw new ClientException("injected connection failure");
+        }
+        BatchWriteRowResponse response = new BatchWriteRowResponse(new Response("fake"));
+        for (Map.Entry<String, List<RowChange>> entry : request.getRowChange().entrySet()) {
+            String tableName = entry.getKey();
+            List<RowChange> changes = entry.getValue();
+            for (int i = 0; i < changes.size(); i++) {
+                RowChange change = changes.get(i);
+                String errorCode = rowError.apply(change.getPrimaryKey());
+                if (errorCode != null) {
+                    response.addRowResult(new BatchWriteRowResponse.RowResult(tableName, null, new Error(errorCode, "injected"), i));
+                    continue;
+                }
+                apply(table(tableName), change);
+                written.incrementAndGet();
+                response.addRowResult(new BatchWriteRowResponse.RowResult(tableName, null, capacity(0, 1), i));
+            }
+        }
+        return response;
+    }
+
+    private static void apply(NavigableMap<PrimaryKey, Row> table, RowChange change) {
+        PrimaryKey key = change.getPrimaryKey();
+        if (change instanceof RowDeleteChange) {
+            table.remove(key);
+            return;
+        }
+        Map<String, Column> columns = new TreeMap<>();
+        if (change instanceof RowPutChange) {
+            for (Column column : ((RowPutChange) change).getColumnsToPut()) {
+                columns.put(column.getName(), column);
+            }
+        } else {
+            Row current = table.get(key);
+            if (current != null) {
+                for (Column column : current.getColumns()) {
+                    columns.put(column.getName(), column);
+                }
+            }
+            for (Pair<Column, RowUpdateChange.Type> update : ((RowUpdateChange) change).getColumnsToUpdate()) {
+                Column column = update.getFirst();
+                switch (update.getSecond()) {
+                    case PUT:
+                        columns.put(column.getName(), column);
+                        break;
+                    case INCREMENT:
+                        Column base = columns.get(column.getName());
+                        long value = (base == null ? 0 : base.getValue().asLong()) + column.getValue().asLong();
+                        columns.put(column.getName(), new Column(column.getName(), ColumnValue.fromLong(value)));
+                        break;
+                    default:
+                        columns.remove(column.getName());
+                        break;
+                }
+            }
+        }
+        table.put(key, new Row(key, columns.values().toArray(new Column[0])));
+    }
+
+    private static ConsumedCapacity capacity(int read, int write) {
+        return new ConsumedCapacity(new CapacityUnit(read, write));
+    }
+}
@@ -0,0 +1,86 @@
+package org.springframework.boot.autoconfigure.tablestore.utils.instantiator;
+
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.Row;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsException;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import java.beans.ConstructorProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class EntityInstantiatorsTest {
+
+    @Test
+    void constructorPropertiesMapParametersByName() {
+        Named named = OtsUtils.build(row(), Named.class);
+
+        assertEquals("k", named.id);
+        assertEquals("first", named.firstName);
+        assertEquals("last", named.lastName);
+    }
+
+    @Test
+    void unnamedParametersAreNotGuessedFromTypes() {
+        Throwable e = assertThrows(OtsException.class, () -> OtsUtils.build(row(), Unnamed.class));
+        while (e.getCause() != null) {
+            e = e.getCause();
+        }
+
+        assertTrue(e.getMessage().contains("@ConstructorProperties"), e.getMessage());
+    }
+
+    private static Row row() {
+        PrimaryKey primaryKey = new PrimaryKey(new PrimaryKeyColumn[]{new PrimaryKeyColumn("id", PrimaryKeyValue.fromString("k"))});
+        return new Row(primaryKey, new Column[]{
+                new Column("firstName", ColumnValue.fromString("first"), 1L),
+                new Column("lastName", ColumnValue.fromString("last"), 1L)});
+    }
+
+    @Table(name = "instantiator_test")
+    static class Named {
+        @OtsColumn(primaryKey = true)
+        private final String id;
+
+        private final String firstName;
+
+        private final String lastName;
+
+        @ConstructorProperties({"lastName", "firstName", "id"})
+        Named(String lastName, String firstName, String id) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+    }
+
+    @Table(name = "instantiator_test")
+    static class Unnamed {
+        @OtsColumn(primaryKey = true)
+        private final String id;
+
+        private final String firstName;
+
+        private final String lastName;
+
+        Unnamed(String id, String firstName, String lastName) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+    }
+}
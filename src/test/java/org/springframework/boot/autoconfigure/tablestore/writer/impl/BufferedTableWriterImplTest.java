@@ -0,0 +1,362 @@
+package org.springframework.boot.autoconfigure.tablestore.writer.impl;
+
+import com.alicloud.openservices.tablestore.model.BatchWriteRowResponse;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.Condition;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;
+import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;
+import com.alicloud.openservices.tablestore.model.RowExistenceExpectation;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowDeleteChange;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.tablestore.TableStoreProperties;
+import org.springframework.boot.autoconfigure.tablestore.enums.BackpressureStrategy;
+import org.springframework.boot.autoconfigure.tablestore.exception.OtsRejectedException;
+import org.springframework.boot.autoconfigure.tablestore.support.FakeSyncClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class BufferedTableWriterImplTest {
+
+    private static final String TABLE = "writer_test";
+
+    private final FakeSyncClient fake = new FakeSyncClient();
+
+    private final TableStoreProperties.Writer config = new TableStoreProperties.Writer();
+
+    private BufferedTableWriterImpl writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void writesRacingWithCloseAlwaysComplete() throws Exception {
+        config.setLinger(Duration.ofMillis(1));
+        for (int round = 0; round < 20; round++) {
+            BufferedTableWriterImpl current = new BufferedTableWriterImpl(fake.client(), config);
+            List<CompletableFuture<BatchWriteRowResponse.RowResult>> futures = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 1000;
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 1000; i++) {
+                        try {
+                            CompletableFuture<BatchWriteRowResponse.RowResult> future = current.write(put(offset + i, "v"));
+                            synchronized (futures) {
+                                futures.add(future);
+                            }
+                        } catch (OtsRejectedException e) {
+                            return;
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            started.await();
+            current.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            synchronized (futures) {
+                for (CompletableFuture<BatchWriteRowResponse.RowResult> future : futures) {
+                    try {
+                        future.get(5, TimeUnit.SECONDS);
+                    } catch (ExecutionException e) {
+                        assertTrue(e.getCause() instanceof OtsRejectedException, String.valueOf(e.getCause()));
+                    } catch (TimeoutException e) {
+                        throw new AssertionError("write never completed after close, round " + round, e);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void interruptedDispatcherStopsLaneAndRejectsWrites() throws Exception {
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        writer.write(put(1, "a")).get(5, TimeUnit.SECONDS);
+
+        Thread dispatcher = thread("tablestore-writer-dispatcher");
+        dispatcher.interrupt();
+        dispatcher.join(5000);
+        assertFalse(dispatcher.isAlive());
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> writer.write(put(2, "b")).get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof OtsRejectedException, String.valueOf(e.getCause()));
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(1, fake.table(TABLE).size());
+    }
+
+    @Test
+    void unmergeableWritesToTheSameRowKeepSubmissionOrder() throws Exception {
+        config.setCoalesce(false);
+        config.setLinger(Duration.ofMillis(1));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        fake.delayWrites(1, 300);
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> first = writer.write(put(1, "first"));
+        CompletableFuture<BatchWriteRowResponse.RowResult> second = writer.write(put(1, "second"));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, fake.requests("batchWriteRow"));
+        assertEquals("second", value(1));
+    }
+
+    @Test
+    void conditionalWriteWaitsForInFlightBatchOfTheSameRow() throws Exception {
+        config.setLinger(Duration.ofMillis(1));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        fake.delayWrites(1, 300);
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> first = writer.write(put(1, "first"));
+        RowPutChange conditional = put(1, "second");
+        conditional.setCondition(new Condition(RowExistenceExpectation.EXPECT_EXIST));
+        CompletableFuture<BatchWriteRowResponse.RowResult> second = writer.write(conditional);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, fake.requests("batchWriteRow"));
+        assertEquals("second", value(1));
+    }
+
+    @Test
+    void lingerSendsPartialBatchAndFlushSendsImmediately() throws Exception {
+        config.setLinger(Duration.ofMillis(300));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+
+        List<CompletableFuture<BatchWriteRowResponse.RowResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(writer.write(put(i, "v")));
+        }
+        Thread.sleep(50);
+        assertEquals(0, fake.requests("batchWriteRow"));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(1, fake.requests("batchWriteRow"));
+
+        config.setLinger(Duration.ofSeconds(30));
+        writer.close();
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        CompletableFuture<BatchWriteRowResponse.RowResult> future = writer.write(put(3, "v"));
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertEquals(2, fake.requests("batchWriteRow"));
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForLinger() throws Exception {
+        config.setLinger(Duration.ofSeconds(30));
+        config.setMaxBatchRows(2);
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> first = writer.write(put(1, "v"));
+        CompletableFuture<BatchWriteRowResponse.RowResult> second = writer.write(put(2, "v"));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertEquals(1, fake.requests("batchWriteRow"));
+    }
+
+    @Test
+    void rowsOfOnePartitionShareALane() throws Exception {
+        config.setPartitions(4);
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 64; i++) {
+            int partition = writer.partition(put("p" + i, 0, "v"));
+            assertEquals(partition, writer.partition(put("p" + i, 1, "other")));
+            assertEquals(partition, writer.partition(new RowDeleteChange(TABLE, key("p" + i, 2))));
+            used.add(partition);
+        }
+        assertEquals(4, used.size());
+
+        List<CompletableFuture<BatchWriteRowResponse.RowResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(writer.write(put("p" + i, 0, "v")));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(64, fake.table(TABLE).size());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(thread("tablestore-writer-dispatcher-" + i).isAlive());
+        }
+    }
+
+    @Test
+    void failBackpressureOnlyRejectsTheFullPartition() throws Exception {
+        config.setBackpressure(BackpressureStrategy.FAIL);
+        PartitionedWrites writes = fillPartition();
+
+        assertThrows(OtsRejectedException.class, () -> writer.write(put("p0", 9, "v")));
+        writer.write(put(writes.otherPartition, 9, "v")).get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(writes.futures).get(5, TimeUnit.SECONDS);
+        writer.write(put("p0", 9, "v")).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void dropBackpressureCompletesDroppedWritesExceptionally() throws Exception {
+        config.setBackpressure(BackpressureStrategy.DROP);
+        PartitionedWrites writes = fillPartition();
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> dropped = writer.write(put("p0", 9, "v"));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> dropped.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof OtsRejectedException, String.valueOf(e.getCause()));
+        CompletableFuture.allOf(writes.futures).get(5, TimeUnit.SECONDS);
+        assertFalse(fake.table(TABLE).containsKey(key("p0", 9)));
+    }
+
+    @Test
+    void blockBackpressureWaitsForCapacity() throws Exception {
+        config.setBackpressure(BackpressureStrategy.BLOCK);
+        PartitionedWrites writes = fillPartition();
+
+        CompletableFuture<CompletableFuture<BatchWriteRowResponse.RowResult>> blocked =
+                CompletableFuture.supplyAsync(() -> writer.write(put("p0", 9, "v")));
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+        assertFalse(writes.futures[0].isDone());
+        blocked.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        assertTrue(writes.futures[0].isDone());
+    }
+
+    @Test
+    void updateFoldedIntoDeleteIsSentAsPut() throws Exception {
+        config.setLinger(Duration.ofMillis(200));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        writer.write(put(1, "old")).get(5, TimeUnit.SECONDS);
+        RowPutChange extra = new RowPutChange(TABLE, key(1));
+        extra.addColumn(new Column("v", ColumnValue.fromString("old")));
+        extra.addColumn(new Column("w", ColumnValue.fromString("old")));
+        writer.write(extra).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> delete = writer.write(new RowDeleteChange(TABLE, key(1)));
+        RowUpdateChange update = new RowUpdateChange(TABLE, key(1));
+        update.put(new Column("v", ColumnValue.fromString("new")));
+        CompletableFuture<BatchWriteRowResponse.RowResult> updated = writer.write(update);
+
+        assertSame(delete.get(5, TimeUnit.SECONDS), updated.get(5, TimeUnit.SECONDS));
+        assertEquals(3, fake.requests("batchWriteRow"));
+        Row row = fake.table(TABLE).get(key(1));
+        assertEquals(1, row.getColumns().length);
+        assertEquals("new", row.getLatestColumn("v").getValue().asString());
+    }
+
+    @Test
+    void updateWithoutColumnsCompletesWithoutRequest() throws Exception {
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+
+        BatchWriteRowResponse.RowResult result = writer.write(new RowUpdateChange(TABLE, key(1))).get(5, TimeUnit.SECONDS);
+        writer.flush().get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSucceed());
+        assertEquals(0, fake.requests("batchWriteRow"));
+    }
+
+    @Test
+    void conditionalWritesAreNeverMerged() throws Exception {
+        config.setLinger(Duration.ofMillis(200));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+
+        CompletableFuture<BatchWriteRowResponse.RowResult> first = writer.write(put(1, "first"));
+        CompletableFuture<BatchWriteRowResponse.RowResult> second = writer.write(put(1, "second"));
+        RowPutChange conditional = put(1, "third");
+        conditional.setCondition(new Condition(RowExistenceExpectation.EXPECT_EXIST));
+        CompletableFuture<BatchWriteRowResponse.RowResult> third = writer.write(conditional);
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+        assertSame(first.get(), second.get());
+        assertNotSame(second.get(), third.get());
+        assertEquals(2, fake.requests("batchWriteRow"));
+        assertEquals("third", value(1));
+    }
+
+    /**
+     * 两个通道、每个通道容量为2，分区p0的两行写入被延迟，占满p0所在通道的容量
+     */
+    private PartitionedWrites fillPartition() {
+        config.setPartitions(2);
+        config.setBufferSize(4);
+        config.setLinger(Duration.ofMillis(50));
+        writer = new BufferedTableWriterImpl(fake.client(), config);
+        PartitionedWrites writes = new PartitionedWrites();
+        for (int i = 1; writes.otherPartition == null; i++) {
+            if (writer.partition(put("p" + i, 0, "v")) != writer.partition(put("p0", 0, "v"))) {
+                writes.otherPartition = "p" + i;
+            }
+        }
+        fake.delayWrites(2, 500);
+        writes.futures = new CompletableFuture<?>[]{writer.write(put("p0", 1, "v")), writer.write(put("p0", 2, "v"))};
+        return writes;
+    }
+
+    private static final class PartitionedWrites {
+
+        private CompletableFuture<?>[] futures;
+
+        private String otherPartition;
+    }
+
+    private String value(long id) {
+        return fake.table(TABLE).get(key(id)).getLatestColumn("v").getValue().asString();
+    }
+
+    static PrimaryKey key(long id) {
+        return new PrimaryKey(new PrimaryKeyColumn[]{new PrimaryKeyColumn("id", PrimaryKeyValue.fromLong(id))});
+    }
+
+    static RowPutChange put(long id, String value) {
+        RowPutChange change = new RowPutChange(TABLE, key(id));
+        change.addColumn(new Column("v", ColumnValue.fromString(value)));
+        return change;
+    }
+
+    static RowPutChange put(String partition, long seq, String value) {
+        RowPutChange change = new RowPutChange(TABLE, key(partition, seq));
+        change.addColumn(new Column("v", ColumnValue.fromString(value)));
+        return change;
+    }
+
+    static PrimaryKey key(String partition, long seq) {
+        return new PrimaryKey(new PrimaryKeyColumn[]{
+                new PrimaryKeyColumn("p", PrimaryKeyValue.fromString(partition)),
+                new PrimaryKeyColumn("seq", PrimaryKeyValue.fromLong(seq))});
+    }
+
+    private static Thread thread(String name) {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals(name) && thread.isAlive()) {
+                return thread;
+            }
+        }
+        throw new AssertionError("no thread named " + name);
+    }
+}
@@ -0,0 +1,381 @@
+package org.springframework.boot.autoconfigure.tablestore.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为标注了@Table的类生成RowMapper实现，生成的映射器以直接的字段读写代替运行时反射，与反射映射一样不经过getter/setter
+ * <p>
+ * 字段为private、final等无法直接访问，或字段类型需要JSON、压缩等转换时，生成代码委托运行时的列编解码器与字段读写器处理，
+ * 转换结果与反射映射保持一致
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+@SupportedAnnotationTypes(RowMapperProcessor.TABLE)
+public class RowMapperProcessor extends AbstractProcessor {
+
+    static final String TABLE = "org.springframework.boot.autoconfigure.tablestore.annotation.Table";
+
+    private static final String OTS_COLUMN = "org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn";
+
+    private static final String DYNAMIC_COLUMN = "org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn";
+
+    private static final String NO_COMPRESS = "org.springframework.boot.autoconfigure.tablestore.utils.compress.NoCompress";
+
+    private static final String SUFFIX = "_RowMapper";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        TypeElement table = elements.getTypeElement(TABLE);
+        if (table == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(table)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            String qualifiedName = type.getQualifiedName().toString();
+            if (!generated.add(qualifiedName)) {
+                continue;
+            }
+            String reason = unsupported(type);
+            if (reason != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "skip generating row mapper for " + qualifiedName + ": " + reason, type);
+                continue;
+            }
+            try {
+                write(entity(type));
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "generate row mapper error: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private String unsupported(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return "private class";
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && !modifiers.contains(Modifier.STATIC)) {
+            return "inner class";
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local class";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+        String tableName = stringValue(annotation(type, TABLE), "name");
+        if (tableName == null || tableName.trim().isEmpty()) {
+            return "the name of table annotation is absent";
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return null;
+            }
+        }
+        return "no accessible no-arg constructor";
+    }
+
+    /**
+     * 与运行时FieldUtils.getDeclaredFields保持相同的字段收集规则
+     */
+    private Entity entity(TypeElement type) {
+        Entity entity = new Entity();
+        entity.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        entity.typeName = type.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        entity.mapperName = (entity.packageName.isEmpty() ? binaryName : binaryName.substring(entity.packageName.length() + 1)) + SUFFIX;
+        entity.tableName = stringValue(annotation(type, TABLE), "name");
+
+        Map<String, Column> columns = new LinkedHashMap<>();
+        TypeElement current = type;
+        while (true) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String fieldName = field.getSimpleName().toString();
+                if (columns.containsKey(fieldName)) {
+                    continue;
+                }
+                Column column = column(type, field);
+                columns.put(column.columnName, column);
+            }
+            TypeMirror superclass = current.getSuperclass();
+            if (superclass.getKind() != TypeKind.DECLARED) {
+                break;
+            }
+            TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+            String superName = superElement.getQualifiedName().toString();
+            if (Object.class.getName().equals(superName)) {
+                break;
+            }
+            if (DYNAMIC_COLUMN.equals(superName)) {
+                entity.dynamic = true;
+                break;
+            }
+            current = superElement;
+        }
+        int index = 0;
+        for (Column column : columns.values()) {
+            column.constant = "F" + index++;
+            if (column.primaryKey) {
+                entity.primaryKeys.add(column);
+            } else {
+                entity.columns.add(column);
+            }
+        }
+        return entity;
+    }
+
+    private Column column(TypeElement entity, VariableElement field) {
+        Column column = new Column();
+        column.fieldName = field.getSimpleName().toString();
+        column.columnName = column.fieldName;
+        column.otsType = "NONE";
+        column.readable = true;
+        column.writable = true;
+        AnnotationMirror otsColumn = annotation(field, OTS_COLUMN);
+        if (otsColumn != null) {
+            Map<String, Object> values = values(otsColumn);
+            column.annotated = true;
+            String name = (String) values.get("name");
+            if (name != null && !name.trim().isEmpty()) {
+                column.columnName = name;
+            }
+            column.primaryKey = Boolean.TRUE.equals(values.get("primaryKey"));
+            column.readable = Boolean.TRUE.equals(values.get("readable"));
+            column.writable = Boolean.TRUE.equals(values.get("writable"));
+            Object type = values.get("type");
+            if (type instanceof VariableElement) {
+                column.otsType = ((VariableElement) type).getSimpleName().toString();
+            }
+            Object compress = values.get("compress");
+            column.compressed = compress != null && !NO_COMPRESS.equals(compress.toString());
+        }
+        TypeMirror fieldType = field.asType();
+        column.kind = kind(fieldType);
+        column.primitive = fieldType.getKind().isPrimitive();
+        column.getter = getter(entity, field);
+        column.setter = setter(entity, field);
+        return column;
+    }
+
+    private Kind kind(TypeMirror type) {
+        switch (type.getKind()) {
+            case BYTE:
+                return Kind.BYTE;
+            case SHORT:
+                return Kind.SHORT;
+            case INT:
+                return Kind.INT;
+            case LONG:
+                return Kind.LONG;
+            case FLOAT:
+                return Kind.FLOAT;
+            case DOUBLE:
+                return Kind.DOUBLE;
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case ARRAY:
+                return ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE ? Kind.BYTES : Kind.OTHER;
+            case DECLARED: {
+                String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+                switch (name) {
+                    case "java.lang.Byte":
+                        return Kind.BYTE;
+                    case "java.lang.Short":
+                        return Kind.SHORT;
+                    case "java.lang.Integer":
+                        return Kind.INT;
+                    case "java.lang.Long":
+                        return Kind.LONG;
+                    case "java.lang.Float":
+                        return Kind.FLOAT;
+                    case "java.lang.Double":
+                        return Kind.DOUBLE;
+                    case "java.lang.Boolean":
+                        return Kind.BOOLEAN;
+                    case "java.lang.String":
+                        return Kind.STRING;
+                    default:
+                        return Kind.OTHER;
+                }
+            }
+            default:
+                return Kind.OTHER;
+        }
+    }
+
+    /**
+     * @return 读取字段的表达式，字段不可直接访问时返回null
+     */
+    private String getter(TypeElement entity, VariableElement field) {
+        if (accessible(entity, field)) {
+            return "data." + field.getSimpleName();
+        }
+        return null;
+    }
+
+    /**
+     * @return 写入字段的语句模板（%s为值），字段不可直接访问或为final时返回null
+     */
+    private String setter(TypeElement entity, VariableElement field) {
+        if (accessible(entity, field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return "data." + field.getSimpleName() + " = %s;";
+        }
+        return null;
+    }
+
+    private boolean accessible(TypeElement entity, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        PackageElement memberPackage = elements.getPackageOf(member);
+        return memberPackage.equals(elements.getPackageOf(entity));
+    }
+
+    private AnnotationMirror annotation(Element element, String annotationName) {
+        List<? extends AnnotationMirror> mirrors = element instanceof TypeElement
+                ? elements.getAllAnnotationMirrors(element) : element.getAnnotationMirrors();
+        for (AnnotationMirror mirror : mirrors) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+
+    private String stringValue(AnnotationMirror mirror, String name) {
+        if (mirror == null) {
+            return null;
+        }
+        Object value = values(mirror).get(name);
+        return value == null ? null : value.toString();
+    }
+
+    private void write(Entity entity) throws IOException {
+        String mapperQualifiedName = entity.packageName.isEmpty() ? entity.mapperName : entity.packageName + "." + entity.mapperName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(mapperQualifiedName);
+        try (Writer writer = file.openWriter()) {
+            writer.write(new RowMapperWriter(entity, elements).source());
+        }
+    }
+
+    enum Kind {
+        BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES, OTHER
+    }
+
+    static class Entity {
+
+        String packageName;
+
+        String typeName;
+
+        String mapperName;
+
+        String tableName;
+
+        boolean dynamic;
+
+        final List<Column> primaryKeys = new ArrayList<>();
+
+        final List<Column> columns = new ArrayList<>();
+    }
+
+    static class Column {
+
+        String fieldName;
+
+        String columnName;
+
+        String constant;
+
+        boolean annotated;
+
+        boolean primaryKey;
+
+        boolean readable;
+
+        boolean writable;
+
+        boolean compressed;
+
+        String otsType;
+
+        Kind kind;
+
+        boolean primitive;
+
+        String getter;
+
+        String setter;
+    }
+}
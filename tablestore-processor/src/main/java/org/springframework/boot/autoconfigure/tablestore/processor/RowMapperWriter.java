@@ -0,0 +1,530 @@
+package org.springframework.boot.autoconfigure.tablestore.processor;
+
+import org.springframework.boot.autoconfigure.tablestore.processor.RowMapperProcessor.Column;
+import org.springframework.boot.autoconfigure.tablestore.processor.RowMapperProcessor.Entity;
+
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 生成RowMapper源码
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class RowMapperWriter {
+
+    private final Entity entity;
+
+    private final Elements elements;
+
+    private final StringBuilder out = new StringBuilder();
+
+    private int indent;
+
+    RowMapperWriter(Entity entity, Elements elements) {
+        this.entity = entity;
+        this.elements = elements;
+    }
+
+    String source() {
+        if (!entity.packageName.isEmpty()) {
+            line("package " + entity.packageName + ";");
+            line("");
+        }
+        line("import com.alicloud.openservices.tablestore.model.Column;");
+        line("import com.alicloud.openservices.tablestore.model.ColumnType;");
+        line("import com.alicloud.openservices.tablestore.model.ColumnValue;");
+        line("import com.alicloud.openservices.tablestore.model.PrimaryKey;");
+        line("import com.alicloud.openservices.tablestore.model.PrimaryKeyColumn;");
+        line("import com.alicloud.openservices.tablestore.model.PrimaryKeyType;");
+        line("import com.alicloud.openservices.tablestore.model.PrimaryKeyValue;");
+        line("import com.alicloud.openservices.tablestore.model.RecordColumn;");
+        line("import com.alicloud.openservices.tablestore.model.Row;");
+        line("import com.alicloud.openservices.tablestore.model.RowPutChange;");
+        line("import com.alicloud.openservices.tablestore.model.RowUpdateChange;");
+        line("import com.alicloud.openservices.tablestore.model.StreamRecord;");
+        line("import org.springframework.boot.autoconfigure.tablestore.mapper.RowMapper;");
+        line("import org.springframework.boot.autoconfigure.tablestore.model.internal.FieldInfo;");
+        line("import org.springframework.boot.autoconfigure.tablestore.model.internal.TableMapping;");
+        line("import org.springframework.boot.autoconfigure.tablestore.utils.ColumnUtils;");
+        line("import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;");
+        line("import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;");
+        line("");
+        line("import java.util.ArrayList;");
+        line("import java.util.List;");
+        line("import java.util.Map;");
+        line("");
+        line("/**");
+        line(" * Generated by RowMapperProcessor for {@link " + entity.typeName + "}, do not edit");
+        line(" */");
+        line("@SuppressWarnings(\"all\")");
+        open("public final class " + entity.mapperName + " implements RowMapper<" + entity.typeName + ">");
+        line("");
+        line("private static final String TABLE_NAME = " + literal(entity.tableName) + ";");
+        line("");
+        fields();
+        fromRow();
+        fromStreamRecord();
+        toRowPutChange();
+        toRowUpdateChange();
+        readPrimaryKey();
+        readColumn();
+        writePrimaryKeys();
+        close();
+        return out.toString();
+    }
+
+    /**
+     * 仅在需要委托运行时转换时才会初始化，避免无谓的反射
+     */
+    private void fields() {
+        open("private static final class Fields");
+        line("");
+        line("static final TableMapping MAPPING = FieldUtils.getTableMapping(" + entity.typeName + ".class);");
+        for (Column column : entity.primaryKeys) {
+            line("");
+            line("static final FieldInfo " + column.constant + " = MAPPING.fieldInfo(" + literal(column.columnName) + ");");
+        }
+        for (Column column : entity.columns) {
+            line("");
+            line("static final FieldInfo " + column.constant + " = MAPPING.fieldInfo(" + literal(column.columnName) + ");");
+        }
+        close();
+        line("");
+    }
+
+    private void fromRow() {
+        line("@Override");
+        open("public " + entity.typeName + " fromRow(Row row)");
+        open("if (row == null)");
+        line("return null;");
+        close();
+        line(entity.typeName + " data = new " + entity.typeName + "();");
+        open("for (PrimaryKeyColumn column : row.getPrimaryKey().getPrimaryKeyColumns())");
+        line("readPrimaryKey(data, column);");
+        close();
+        open("for (Column column : row.getColumns())");
+        line("readColumn(data, column);");
+        close();
+        line("return data;");
+        close();
+        line("");
+    }
+
+    private void fromStreamRecord() {
+        line("@Override");
+        open("public " + entity.typeName + " fromStreamRecord(StreamRecord record)");
+        open("if (record == null)");
+        line("return null;");
+        close();
+        line(entity.typeName + " data = new " + entity.typeName + "();");
+        open("for (PrimaryKeyColumn column : record.getPrimaryKey().getPrimaryKeyColumns())");
+        line("readPrimaryKey(data, column);");
+        close();
+        open("for (RecordColumn recordColumn : record.getColumns())");
+        line("readColumn(data, recordColumn.getColumn());");
+        close();
+        line("return data;");
+        close();
+        line("");
+    }
+
+    private void toRowPutChange() {
+        line("@Override");
+        open("public RowPutChange toRowPutChange(" + entity.typeName + " data)");
+        line("List<PrimaryKeyColumn> primaryKeyColumns = new ArrayList<>(" + entity.primaryKeys.size() + ");");
+        line("List<Column> columns = new ArrayList<>(" + entity.columns.size() + ");");
+        line("writePrimaryKeys(data, primaryKeyColumns);");
+        for (Column column : entity.columns) {
+            if (column.writable) {
+                writeColumn(column, false);
+            }
+        }
+        if (entity.dynamic) {
+            line("Map<String, Object> dynamicColumns = data.getDynamicColumns();");
+            open("if (dynamicColumns != null)");
+            open("for (Map.Entry<String, Object> entry : dynamicColumns.entrySet())");
+            open("if (entry.getValue() != null)");
+            line("OtsUtils.setColumns(null, entry.getKey(), entry.getValue(), columns);");
+            close();
+            close();
+            close();
+        }
+        line("RowPutChange rowPutChange = new RowPutChange(TABLE_NAME, new PrimaryKey(primaryKeyColumns));");
+        line("rowPutChange.addColumns(columns);");
+        line("return rowPutChange;");
+        close();
+        line("");
+    }
+
+    private void toRowUpdateChange() {
+        line("@Override");
+        open("public RowUpdateChange toRowUpdateChange(" + entity.typeName + " data, boolean deleteNull)");
+        line("RowUpdateChange rowUpdateChange = new RowUpdateChange(TABLE_NAME);");
+        line("List<PrimaryKeyColumn> primaryKeyColumns = new ArrayList<>(" + entity.primaryKeys.size() + ");");
+        line("List<Column> columns = new ArrayList<>(" + entity.columns.size() + ");");
+        line("writePrimaryKeys(data, primaryKeyColumns);");
+        for (Column column : entity.columns) {
+            if (column.writable) {
+                writeColumn(column, true);
+            }
+        }
+        if (entity.dynamic) {
+            line("Map<String, Object> dynamicColumns = data.getDynamicColumns();");
+            open("if (dynamicColumns != null)");
+            open("for (Map.Entry<String, Object> entry : dynamicColumns.entrySet())");
+            open("if (entry.getValue() != null)");
+            line("OtsUtils.setColumns(null, entry.getKey(), entry.getValue(), columns);");
+            elseOpen("else if (deleteNull)");
+            line("rowUpdateChange.deleteColumns(entry.getKey());");
+            close();
+            close();
+            close();
+        }
+        line("rowUpdateChange.setPrimaryKey(new PrimaryKey(primaryKeyColumns));");
+        line("rowUpdateChange.put(columns);");
+        line("return rowUpdateChange;");
+        close();
+        line("");
+    }
+
+    private void readPrimaryKey() {
+        open("private static void readPrimaryKey(" + entity.typeName + " data, PrimaryKeyColumn column)");
+        open("switch (column.getName())");
+        for (Column column : all()) {
+            if (!column.readable) {
+                continue;
+            }
+            open("case " + literal(column.columnName) + ":");
+            String fast = column.setter == null ? null : primaryKeyRead(column);
+            if (fast != null) {
+                line("PrimaryKeyValue value = column.getValue();");
+                open("if (value.getType() == PrimaryKeyType." + primaryKeyReadType(column) + ")");
+                line(String.format(column.setter, fast));
+                elseOpen("else");
+                fallbackRead(column);
+                close();
+            } else {
+                fallbackRead(column);
+            }
+            line("break;");
+            close();
+        }
+        line("default:");
+        line("    break;");
+        close();
+        close();
+        line("");
+    }
+
+    private void readColumn() {
+        open("private static void readColumn(" + entity.typeName + " data, Column column)");
+        open("switch (column.getName())");
+        for (Column column : all()) {
+            open("case " + literal(column.columnName) + ":");
+            if (column.readable) {
+                String fast = column.setter == null ? null : columnRead(column);
+                if (fast != null) {
+                    line("ColumnValue value = column.getValue();");
+                    open("if (value.getType() == ColumnType." + columnReadType(column) + ")");
+                    line(String.format(column.setter, fast));
+                    elseOpen("else");
+                    fallbackRead(column);
+                    close();
+                } else {
+                    fallbackRead(column);
+                }
+            }
+            line("break;");
+            close();
+        }
+        line("default:");
+        if (entity.dynamic) {
+            line("    data.addDynamicColumn(column.getName(), column.getValue().getType(), ColumnUtils.getValue(column));");
+        }
+        line("    break;");
+        close();
+        close();
+        line("");
+    }
+
+    private void writePrimaryKeys() {
+        open("private static void writePrimaryKeys(" + entity.typeName + " data, List<PrimaryKeyColumn> primaryKeyColumns)");
+        for (Column column : entity.primaryKeys) {
+            if (!column.writable) {
+                continue;
+            }
+            String fast = column.getter == null ? null : primaryKeyWrite(column);
+            open("");
+            declareValue(column);
+            boolean nullable = column.getter == null || !column.primitive;
+            if (nullable) {
+                open("if (value != null)");
+            }
+            if (fast != null) {
+                line("primaryKeyColumns.add(new PrimaryKeyColumn(" + literal(column.columnName) + ", " + fast + "));");
+            } else {
+                line("OtsUtils.setPrimaryColumns(Fields." + column.constant + ", value, primaryKeyColumns);");
+            }
+            if (nullable) {
+                close();
+            }
+            close();
+        }
+        close();
+    }
+
+    private void writeColumn(Column column, boolean update) {
+        String fast = column.getter == null ? null : columnWrite(column);
+        open("");
+        declareValue(column);
+        boolean nullable = column.getter == null || !column.primitive;
+        if (nullable) {
+            open("if (value != null)");
+        }
+        if (fast != null) {
+            line("columns.add(new Column(" + literal(column.columnName) + ", " + fast + "));");
+        } else {
+            line("OtsUtils.setColumns(Fields." + column.constant + ", value, columns);");
+        }
+        if (nullable) {
+            if (update && column.annotated) {
+                elseOpen("else if (deleteNull)");
+                line("rowUpdateChange.deleteColumns(" + literal(column.columnName) + ");");
+            }
+            close();
+        }
+        close();
+    }
+
+    private void declareValue(Column column) {
+        if (column.getter == null) {
+            line("Object value = Fields." + column.constant + ".accessor().get(data);");
+        } else {
+            line(javaType(column) + " value = " + column.getter + ";");
+        }
+    }
+
+    private void fallbackRead(Column column) {
+        String field = "Fields." + column.constant;
+        line(field + ".accessor().set(data, " + field + ".codec().decode(column.getValue()));");
+    }
+
+    private String primaryKeyReadType(Column column) {
+        switch (column.kind) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return "INTEGER";
+            case STRING:
+                return "STRING";
+            default:
+                return "BINARY";
+        }
+    }
+
+    private String primaryKeyRead(Column column) {
+        switch (column.kind) {
+            case BYTE:
+                return "(byte) value.asLong()";
+            case SHORT:
+                return "(short) value.asLong()";
+            case INT:
+                return "(int) value.asLong()";
+            case LONG:
+                return "value.asLong()";
+            case STRING:
+                return "value.asString()";
+            case BYTES:
+                return column.compressed ? null : "value.asBinary()";
+            default:
+                return null;
+        }
+    }
+
+    private String columnReadType(Column column) {
+        switch (column.kind) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return "INTEGER";
+            case FLOAT:
+            case DOUBLE:
+                return "DOUBLE";
+            case BOOLEAN:
+                return "BOOLEAN";
+            case STRING:
+                return "STRING";
+            default:
+                return "BINARY";
+        }
+    }
+
+    private String columnRead(Column column) {
+        switch (column.kind) {
+            case FLOAT:
+                return "(float) value.asDouble()";
+            case DOUBLE:
+                return "value.asDouble()";
+            case BOOLEAN:
+                return "value.asBoolean()";
+            default:
+                return primaryKeyRead(column);
+        }
+    }
+
+    private String primaryKeyWrite(Column column) {
+        String type = column.otsType;
+        switch (column.kind) {
+            case SHORT:
+            case INT:
+            case LONG:
+                if ("NONE".equals(type) || "INTEGER".equals(type)) {
+                    return "PrimaryKeyValue.fromLong(" + (column.primitive ? "value" : "value.longValue()") + ")";
+                } else if ("STRING".equals(type)) {
+                    return "PrimaryKeyValue.fromString(String.valueOf(value))";
+                }
+                return null;
+            case FLOAT:
+            case DOUBLE:
+            case BOOLEAN:
+                if ("NONE".equals(type) || "STRING".equals(type)) {
+                    return "PrimaryKeyValue.fromString(String.valueOf(value))";
+                }
+                return null;
+            case STRING:
+                if ("NONE".equals(type) || "STRING".equals(type)) {
+                    return "PrimaryKeyValue.fromString(value)";
+                } else if ("INTEGER".equals(type)) {
+                    return "PrimaryKeyValue.fromLong(Long.parseLong(value))";
+                }
+                return null;
+            case BYTES:
+                if (!column.compressed && ("NONE".equals(type) || "BINARY".equals(type))) {
+                    return "PrimaryKeyValue.fromBinary(value)";
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private String columnWrite(Column column) {
+        String type = column.otsType;
+        switch (column.kind) {
+            case SHORT:
+            case INT:
+            case LONG:
+                if ("NONE".equals(type) || "INTEGER".equals(type)) {
+                    return "ColumnValue.fromLong(" + (column.primitive ? "value" : "value.longValue()") + ")";
+                } else if ("DOUBLE".equals(type)) {
+                    return "ColumnValue.fromDouble(" + (column.primitive ? "value" : "value.doubleValue()") + ")";
+                } else if ("STRING".equals(type)) {
+                    return "ColumnValue.fromString(String.valueOf(value))";
+                }
+                return null;
+            case FLOAT:
+            case DOUBLE:
+                if ("NONE".equals(type) || "DOUBLE".equals(type)) {
+                    return "ColumnValue.fromDouble(" + (column.primitive ? "value" : "value.doubleValue()") + ")";
+                } else if ("STRING".equals(type)) {
+                    return "ColumnValue.fromString(String.valueOf(value))";
+                }
+                return null;
+            case BOOLEAN:
+                if ("NONE".equals(type) || "BOOLEAN".equals(type)) {
+                    return "ColumnValue.fromBoolean(value)";
+                } else if ("STRING".equals(type)) {
+                    return "ColumnValue.fromString(String.valueOf(value))";
+                }
+                return null;
+            case STRING:
+                switch (type) {
+                    case "NONE":
+                    case "STRING":
+                        return "ColumnValue.fromString(value)";
+                    case "INTEGER":
+                        return "ColumnValue.fromLong(Long.parseLong(value))";
+                    case "DOUBLE":
+                        return "ColumnValue.fromDouble(Double.parseDouble(value))";
+                    case "BOOLEAN":
+                        return "ColumnValue.fromBoolean(Boolean.parseBoolean(value))";
+                    default:
+                        return null;
+                }
+            case BYTES:
+                if (!column.compressed && ("NONE".equals(type) || "BINARY".equals(type))) {
+                    return "ColumnValue.fromBinary(value)";
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private String javaType(Column column) {
+        switch (column.kind) {
+            case BYTE:
+                return column.primitive ? "byte" : "Byte";
+            case SHORT:
+                return column.primitive ? "short" : "Short";
+            case INT:
+                return column.primitive ? "int" : "Integer";
+            case LONG:
+                return column.primitive ? "long" : "Long";
+            case FLOAT:
+                return column.primitive ? "float" : "Float";
+            case DOUBLE:
+                return column.primitive ? "double" : "Double";
+            case BOOLEAN:
+                return column.primitive ? "boolean" : "Boolean";
+            case STRING:
+                return "String";
+            case BYTES:
+                return "byte[]";
+            default:
+                return "Object";
+        }
+    }
+
+    private List<Column> all() {
+        List<Column> columns = new ArrayList<>(entity.primaryKeys);
+        columns.addAll(entity.columns);
+        return columns;
+    }
+
+    private String literal(String value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private void open(String statement) {
+        line(statement.isEmpty() ? "{" : statement + " {");
+        indent++;
+    }
+
+    private void elseOpen(String statement) {
+        indent--;
+        line("} " + statement + " {");
+        indent++;
+    }
+
+    private void close() {
+        indent--;
+        line("}");
+    }
+
+    private void line(String line) {
+        if (!line.isEmpty()) {
+            for (int i = 0; i < indent; i++) {
+                out.append("    ");
+            }
+            out.append(line);
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,297 @@
+package org.springframework.boot.autoconfigure.tablestore.processor;
+
+import com.alicloud.openservices.tablestore.core.utils.Pair;
+import com.alicloud.openservices.tablestore.model.Column;
+import com.alicloud.openservices.tablestore.model.ColumnValue;
+import com.alicloud.openservices.tablestore.model.PrimaryKey;
+import com.alicloud.openservices.tablestore.model.Row;
+import com.alicloud.openservices.tablestore.model.RowPutChange;
+import com.alicloud.openservices.tablestore.model.RowUpdateChange;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.tablestore.mapper.RowMappers;
+import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
+import org.springframework.boot.autoconfigure.tablestore.utils.FieldUtils;
+import org.springframework.boot.autoconfigure.tablestore.utils.OtsUtils;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 同一批实体分别带处理器和不带处理器编译，生成映射器的结果必须与反射路径一致
+ *
+ * Created on 2026/10/17
+ *
+ * @author Kenn
+ */
+class RowMapperProcessorTest {
+
+    private static final String[] SOURCES = {"Sample", "Address", "Plain", "Direct"};
+
+    @TempDir
+    static Path dir;
+
+    private static ClassLoader generated;
+
+    private static ClassLoader reflective;
+
+    @BeforeAll
+    static void compile() throws IOException {
+        Path sources = Files.createDirectories(dir.resolve("src/sample"));
+        List<File> files = new ArrayList<>();
+        for (String source : SOURCES) {
+            Path file = sources.resolve(source + ".java");
+            try (InputStream in = RowMapperProcessorTest.class.getResourceAsStream("/sample/" + source + ".java")) {
+                Files.copy(Objects.requireNonNull(in, source), file);
+            }
+            files.add(file.toFile());
+        }
+        generated = compile(files, dir.resolve("generated"), true);
+        reflective = compile(files, dir.resolve("reflective"), false);
+    }
+
+    @Test
+    void processorGeneratesMappersOnlyWhenEnabled() throws Exception {
+        assertNotNull(RowMappers.find(generated.loadClass("sample.Sample")));
+        assertNotNull(RowMappers.find(generated.loadClass("sample.Plain")));
+        assertNull(RowMappers.find(reflective.loadClass("sample.Sample")));
+        assertNull(RowMappers.find(reflective.loadClass("sample.Plain")));
+    }
+
+    @Test
+    void generatedPathDoesNotBuildReflectiveMapping() throws Exception {
+        Class<?> clazz = generated.loadClass("sample.Direct");
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", 6L);
+        values.put("name", "direct");
+        values.put("count", 3);
+        Object entity = newEntity(clazz, values);
+
+        RowPutChange put = OtsUtils.rowPutChange(entity);
+        OtsUtils.rowUpdateChange(entity, true);
+        OtsUtils.build(row(put), clazz);
+
+        Field mappings = FieldUtils.class.getDeclaredField("TABLE_MAPPINGS");
+        mappings.setAccessible(true);
+        assertFalse(((Map<?, ?>) mappings.get(null)).containsKey(clazz));
+    }
+
+    @Test
+    void sampleMatchesReflection() throws Exception {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", "k1");
+        values.put("seq", 7L);
+        values.put("ratio", 1.5f);
+        values.put("flag", true);
+        values.put("tiny", (byte) 3);
+        values.put("small", (short) 12);
+        values.put("count", 42);
+        values.put("boxedCount", 43);
+        values.put("total", 44L);
+        values.put("score", 0.25d);
+        values.put("rate", 2.5f);
+        values.put("active", true);
+        values.put("enabled", false);
+        values.put("name", "name");
+        values.put("data", new byte[]{1, 2, 3});
+        values.put("note", "a note that is compressed");
+        values.put("blob", new byte[]{9, 8, 7, 6});
+        values.put("tags", Arrays.asList("a", "b"));
+        values.put("counts", Collections.singletonMap("x", 1));
+        values.put("address", address("hangzhou", 310000));
+        values.put("alias", "alias");
+        values.put("asText", 99L);
+        values.put("asNumber", "100");
+        values.put("writeOnly", "w");
+        values.put("readOnly", "r");
+        assertSameMapping("sample.Sample", values);
+    }
+
+    @Test
+    void sampleWithNullsMatchesReflection() throws Exception {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", "k2");
+        values.put("seq", 8L);
+        values.put("ratio", 0f);
+        values.put("flag", false);
+        assertSameMapping("sample.Sample", values);
+    }
+
+    @Test
+    void plainMatchesReflection() throws Exception {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", 5L);
+        values.put("weight", 3.75d);
+        values.put("raw", new byte[]{4, 2});
+        values.put("value", 1.25d);
+        values.put("level", (short) 2);
+        values.put("code", (byte) 1);
+        assertSameMapping("sample.Plain", values);
+    }
+
+    private void assertSameMapping(String className, Map<String, Object> values) throws Exception {
+        Object expected = newEntity(reflective.loadClass(className), values);
+        Object actual = newEntity(generated.loadClass(className), values);
+
+        RowPutChange expectedPut = OtsUtils.rowPutChange(expected);
+        RowPutChange actualPut = OtsUtils.rowPutChange(actual);
+        assertEquals(expectedPut.getTableName(), actualPut.getTableName());
+        assertEquals(expectedPut.getPrimaryKey(), actualPut.getPrimaryKey());
+        assertEquals(columns(expectedPut.getColumnsToPut()), columns(actualPut.getColumnsToPut()));
+
+        for (boolean deleteNull : new boolean[]{false, true}) {
+            RowUpdateChange expectedUpdate = OtsUtils.rowUpdateChange(expected, deleteNull);
+            RowUpdateChange actualUpdate = OtsUtils.rowUpdateChange(actual, deleteNull);
+            assertEquals(expectedUpdate.getPrimaryKey(), actualUpdate.getPrimaryKey());
+            assertEquals(updates(expectedUpdate), updates(actualUpdate));
+        }
+
+        Row row = row(expectedPut);
+        Object built = OtsUtils.build(row, actual.getClass());
+        assertEquals(fields(OtsUtils.build(row, expected.getClass())), fields(built));
+        if (built instanceof DynamicColumn) {
+            assertTrue(((DynamicColumn) built).containsDynamicColumn("extra"));
+        }
+    }
+
+    private static Row row(RowPutChange change) {
+        PrimaryKey primaryKey = change.getPrimaryKey();
+        List<Column> columns = new ArrayList<>(change.getColumnsToPut());
+        columns.add(new Column("extra", ColumnValue.fromString("dynamic"), 1L));
+        List<Column> timestamped = new ArrayList<>();
+        for (Column column : columns) {
+            timestamped.add(new Column(column.getName(), column.getValue(), 1L));
+        }
+        return new Row(primaryKey, timestamped);
+    }
+
+    private static Map<String, ColumnValue> columns(List<Column> columns) {
+        Map<String, ColumnValue> result = new TreeMap<>();
+        for (Column column : columns) {
+            result.put(column.getName(), column.getValue());
+        }
+        assertEquals(columns.size(), result.size());
+        return result;
+    }
+
+    private static Map<String, String> updates(RowUpdateChange change) {
+        Map<String, String> result = new TreeMap<>();
+        for (Pair<Column, RowUpdateChange.Type> update : change.getColumnsToUpdate()) {
+            Column column = update.getFirst();
+            String value = update.getSecond() == RowUpdateChange.Type.PUT ? String.valueOf(column.getValue()) : "";
+            result.put(column.getName(), update.getSecond() + ":" + value);
+        }
+        assertEquals(change.getColumnsToUpdate().size(), result.size());
+        return result;
+    }
+
+    private static Map<String, Object> fields(Object entity) throws IllegalAccessException {
+        Map<String, Object> result = new TreeMap<>();
+        for (Class<?> current = entity.getClass(); current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                Object value = field.get(entity);
+                if (value instanceof byte[]) {
+                    value = Arrays.toString((byte[]) value);
+                } else if (value != null && value.getClass().getName().startsWith("sample.")) {
+                    value = fields(value);
+                }
+                result.put(current.getSimpleName() + "." + field.getName(), value);
+            }
+        }
+        return result;
+    }
+
+    private static Object newEntity(Class<?> clazz, Map<String, Object> values) throws ReflectiveOperationException {
+        Object entity = clazz.getDeclaredConstructor().newInstance();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Field field = clazz.getDeclaredField(entry.getKey());
+            field.setAccessible(true);
+            Object value = entry.getValue();
+            if ("address".equals(entry.getKey())) {
+                value = copy(field.getType(), value);
+            }
+            field.set(entity, value);
+        }
+        return entity;
+    }
+
+    private static Object address(String city, int zip) {
+        Map<String, Object> address = new HashMap<>();
+        address.put("city", city);
+        address.put("zip", zip);
+        return address;
+    }
+
+    @SuppressWarnings(value = "unchecked")
+    private static Object copy(Class<?> type, Object value) throws ReflectiveOperationException {
+        Object result = type.getDeclaredConstructor().newInstance();
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+            Field field = type.getDeclaredField(entry.getKey());
+            field.setAccessible(true);
+            field.set(result, entry.getValue());
+        }
+        return result;
+    }
+
+    private static ClassLoader compile(List<File> files, Path output, boolean processor) throws IOException {
+        Files.createDirectories(output);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString(),
+                    "-s", output.toString()));
+            if (!processor) {
+                options.add("-proc:none");
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            if (processor) {
+                task.setProcessors(Collections.singletonList(new RowMapperProcessor()));
+            }
+            boolean success = task.call();
+            StringBuilder messages = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                messages.append(diagnostic).append('\n');
+            }
+            assertTrue(success, messages.toString());
+        }
+        assertEquals(processor, Files.exists(output.resolve("sample/Sample_RowMapper.java")));
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, RowMapperProcessorTest.class.getClassLoader());
+    }
+}
@@ -0,0 +1,40 @@
+package sample;
+
+import java.util.Objects;
+
+public class Address {
+
+    private String city;
+
+    private int zip;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public int getZip() {
+        return zip;
+    }
+
+    public void setZip(int zip) {
+        this.zip = zip;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Address)) {
+            return false;
+        }
+        Address other = (Address) o;
+        return zip == other.zip && Objects.equals(city, other.city);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(city, zip);
+    }
+}
@@ -0,0 +1,17 @@
+package sample;
+
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+
+@Table(name = "direct")
+public class Direct {
+
+    @OtsColumn(primaryKey = true)
+    long id;
+
+    String name;
+
+    int count;
+
+    Long total;
+}
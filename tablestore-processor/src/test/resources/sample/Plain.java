@@ -0,0 +1,24 @@
+package sample;
+
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+
+@Table(name = "plain")
+public class Plain {
+
+    @OtsColumn(primaryKey = true, type = OtsColumnType.STRING)
+    private long id;
+
+    @OtsColumn(primaryKey = true)
+    private double weight;
+
+    @OtsColumn(primaryKey = true)
+    private byte[] raw;
+
+    private Double value;
+
+    private Short level;
+
+    private Byte code;
+}
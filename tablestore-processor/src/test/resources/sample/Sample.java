@@ -0,0 +1,78 @@
+package sample;
+
+import org.springframework.boot.autoconfigure.tablestore.annotation.OtsColumn;
+import org.springframework.boot.autoconfigure.tablestore.annotation.Table;
+import org.springframework.boot.autoconfigure.tablestore.enums.OtsColumnType;
+import org.springframework.boot.autoconfigure.tablestore.model.DynamicColumn;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.DeflateCompress;
+import org.springframework.boot.autoconfigure.tablestore.utils.compress.GzipCompress;
+
+import java.util.List;
+import java.util.Map;
+
+@Table(name = "sample")
+public class Sample extends DynamicColumn {
+
+    @OtsColumn(primaryKey = true)
+    private String id;
+
+    @OtsColumn(primaryKey = true)
+    long seq;
+
+    @OtsColumn(primaryKey = true)
+    private float ratio;
+
+    @OtsColumn(primaryKey = true)
+    private Boolean flag;
+
+    private byte tiny;
+
+    short small;
+
+    private int count;
+
+    private Integer boxedCount;
+
+    private Long total;
+
+    private double score;
+
+    private Float rate;
+
+    boolean active;
+
+    private Boolean enabled;
+
+    private String name;
+
+    private byte[] data;
+
+    @OtsColumn(compress = GzipCompress.class)
+    private String note;
+
+    @OtsColumn(compress = DeflateCompress.class)
+    private byte[] blob;
+
+    private List<String> tags;
+
+    private Map<String, Integer> counts;
+
+    private Address address;
+
+    @OtsColumn(name = "renamed")
+    private String alias;
+
+    @OtsColumn(type = OtsColumnType.STRING)
+    private long asText;
+
+    @OtsColumn(type = OtsColumnType.INTEGER)
+    private String asNumber;
+
+    @OtsColumn(readable = false)
+    private String writeOnly;
+
+    @OtsColumn(writable = false)
+    private String readOnly;
+
+    private final String constant = "constant";
+}